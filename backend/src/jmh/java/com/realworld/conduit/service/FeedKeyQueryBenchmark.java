@@ -0,0 +1,107 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.model.Article;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * fan-out-on-read 피드의 작성자별 키 조회(findRecentArticleKeysByAuthors) 벤치마크
+ *
+ * 팔로우 작성자 수(10 ~ 5,000)별로 UNION ALL 문장을 authorsPerQuery명 단위로 나눠 실행할 때의
+ * 조회 시간을 비교함. (H2에서는 5,000개 서브쿼리를 한 문장으로 실행하면 파서가 StackOverflowError로 실패함)
+ * 내장 H2(MariaDB 호환 모드)에서 실행하므로 절대값은 MariaDB와 다르며,
+ * 작성자 수와 문장 분할에 따른 증가 추세를 보는 용도. 운영 값 결정 전에는 MariaDB에서 다시 측정할 것.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=FeedKeyQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class FeedKeyQueryBenchmark {
+    
+    private static final int PAGE_SIZE = 20;
+    private static final int ARTICLES_PER_AUTHOR = 30;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    
+    @Param({"10", "100", "1000", "5000"})
+    public int followedAuthors;
+    
+    @Param({"50", "200", "1000"})
+    public int authorsPerQuery;
+    
+    private SingleConnectionDataSource dataSource;
+    private ArticleMapper articleMapper;
+    private List<Long> authorIds;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE articles (id BIGINT PRIMARY KEY, author_id BIGINT NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL)");
+        // db/001_article_keyset_indexes.sql 와 같은 인덱스
+        jdbcTemplate.execute("CREATE INDEX idx_articles_author_created_at_id ON articles (author_id, created_at, id)");
+        
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(followedAuthors * ARTICLES_PER_AUTHOR);
+        authorIds = new ArrayList<>(followedAuthors);
+        long id = 1;
+        for (long author = 1; author <= followedAuthors; author++) {
+            authorIds.add(author);
+            for (int i = 0; i < ARTICLES_PER_AUTHOR; i++) {
+                rows.add(new Object[] {id++, author, Timestamp.valueOf(BASE_TIME.plusMinutes(random.nextInt(525_600)))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO articles (id, author_id, created_at) VALUES (?, ?, ?)", rows);
+        
+        SqlSessionFactoryBean factory = new SqlSessionFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setMapperLocations(new ClassPathResource("mapper/ArticleMapper.xml"));
+        articleMapper = new SqlSessionTemplate(factory.getObject()).getMapper(ArticleMapper.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+    
+    // FanOutOnReadFeedReader의 키 조회 단계와 같은 분할
+    @Benchmark
+    public List<Article> findRecentArticleKeys() {
+        List<Article> keys = new ArrayList<>();
+        for (int from = 0; from < authorIds.size(); from += authorsPerQuery) {
+            List<Long> chunk = authorIds.subList(from, Math.min(from + authorsPerQuery, authorIds.size()));
+            keys.addAll(articleMapper.findRecentArticleKeysByAuthors(chunk, null, null, PAGE_SIZE));
+        }
+        return keys;
+    }
+}
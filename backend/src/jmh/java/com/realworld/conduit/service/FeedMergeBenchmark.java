@@ -0,0 +1,79 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.util.KWayMerge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * fan-out-on-read 피드의 메모리 병합 단계 벤치마크
+ *
+ * 팔로우 작성자 수(1 ~ 5,000)별로 작성자당 최신 PAGE_SIZE개 키를 받아 한 페이지를 고르는 비용을
+ * 힙 기반 k-way 병합과 전체 정렬 방식으로 비교함.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=FeedMergeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedMergeBenchmark {
+    
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    
+    @Param({"1", "10", "100", "1000", "5000"})
+    public int followedAuthors;
+    
+    private List<List<Article>> perAuthor;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        perAuthor = new ArrayList<>(followedAuthors);
+        long id = 1;
+        for (int author = 0; author < followedAuthors; author++) {
+            List<Article> articles = new ArrayList<>(PAGE_SIZE);
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                Article article = new Article();
+                article.setId(id++);
+                article.setAuthorId((long) author);
+                article.setCreatedAt(BASE_TIME.plusMinutes(random.nextInt(525_600)));
+                articles.add(article);
+            }
+            articles.sort(FeedReader.NEWEST_FIRST);
+            perAuthor.add(articles);
+        }
+    }
+    
+    @Benchmark
+    public List<Article> kWayMerge() {
+        return KWayMerge.merge(perAuthor, FeedReader.NEWEST_FIRST, PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public List<Article> concatAndSort() {
+        List<Article> all = new ArrayList<>(followedAuthors * PAGE_SIZE);
+        perAuthor.forEach(all::addAll);
+        all.sort(FeedReader.NEWEST_FIRST);
+        return new ArrayList<>(all.subList(0, Math.min(PAGE_SIZE, all.size())));
+    }
+}
@@ -0,0 +1,53 @@
+package com.realworld.conduit.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * slug 생성 벤치마크
+ *
+ * 단일 패스 구현({@link SlugUtils#generateSlug})과 이전의 replaceAll 네 번 방식을 제목 종류별로 비교함.
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm(호출당 바이트)으로 확인.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=SlugBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugBenchmark {
+    
+    @Param({
+            "How to Train Your Dragon",
+            "Java & Spring Boot: 완벽 가이드 (2024)",
+            "  Weekly   update --- notes, issue #42  "
+    })
+    public String title;
+    
+    @Benchmark
+    public String singlePass() {
+        return SlugUtils.generateSlug(title);
+    }
+    
+    @Benchmark
+    public String regexReplaceAll() {
+        return title.trim()
+                .toLowerCase()
+                .replaceAll("\\s+", "-")
+                .replaceAll("[^a-z0-9\\-가-힣]", "")
+                .replaceAll("-+", "-")
+                .replaceAll("^-|-$", "");
+    }
+}
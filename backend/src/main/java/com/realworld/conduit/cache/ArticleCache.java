@@ -0,0 +1,139 @@
+package com.realworld.conduit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.realworld.conduit.config.PrimaryReads;
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.ArticleUpdatedEvent;
+import com.realworld.conduit.event.FavoritesCountsFlushedEvent;
+import com.realworld.conduit.event.UserUpdatedEvent;
+import com.realworld.conduit.model.Article;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * slug 기준 아티클 read-through 캐시
+ *
+ * Caffeine(W-TinyLFU 제거 정책)으로 추정 바이트 크기 기준 상한과 TTL을 적용함.
+ * 같은 slug에 대한 동시 미스는 한 번만 DB를 조회하므로 인기 아티클의 DB 부하가
+ * 조회 빈도와 무관하게 유지됨. 수정/삭제와 작성자 프로필 수정은 커밋 후, 즐겨찾기 수는 DB에 반영된 후 무효화함
+ * (반영 전 증감분은 FavoritesCountBuffer가 조회 시 더해 줌).
+ * 무효화 직후 지연된 복제본 값이 다시 캐시되지 않도록 loader는 원본에서 실행함.
+ *
+ * conduit.article-cache.enabled=false 이면 항상 loader를 직접 호출.
+ */
+@Component
+@Slf4j
+public class ArticleCache {
+    
+    // 객체 헤더, 참조 필드, LocalDateTime 등 문자열 외 고정 비용 추정치
+    private static final int ARTICLE_OVERHEAD_BYTES = 256;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    
+    private final PrimaryReads primaryReads;
+    private final Cache<String, Article> cache;
+    
+    public ArticleCache(PrimaryReads primaryReads,
+                        @Value("${conduit.article-cache.enabled:true}") boolean enabled,
+                        @Value("${conduit.article-cache.max-bytes:67108864}") long maxBytes,
+                        @Value("${conduit.article-cache.ttl:PT5M}") Duration ttl) {
+        this.primaryReads = primaryReads;
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher(ArticleCache::estimateBytes)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build()
+                : null;
+        log.info("아티클 캐시 {}: maxBytes={}, ttl={}", enabled ? "활성화" : "비활성화", maxBytes, ttl);
+    }
+    
+    /**
+     * 캐시에서 조회하고, 없으면 loader로 읽어 저장 (null 결과는 저장하지 않음).
+     * 호출자가 반환값을 수정해도 캐시가 오염되지 않도록 복사본을 반환함.
+     */
+    public Article get(String slug, Function<String, Article> loader) {
+        if (cache == null) {
+            return loader.apply(slug);
+        }
+        Article cached = cache.get(slug, key -> primaryReads.load(() -> loader.apply(key)));
+        return cached != null ? copyOf(cached) : null;
+    }
+    
+    public void invalidate(String slug) {
+        if (cache != null) {
+            cache.invalidate(slug);
+        }
+    }
+    
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+    
+    public long estimatedSize() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleUpdated(ArticleUpdatedEvent event) {
+        invalidate(event.article().getSlug());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        invalidate(event.article().getSlug());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoritesCountsFlushed(FavoritesCountsFlushedEvent event) {
+        event.slugs().forEach(this::invalidate);
+    }
+    
+    // 작성자 정보를 함께 캐시하므로 해당 작성자의 아티클을 모두 무효화 (slug 키라 전체 순회)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        if (cache != null) {
+            cache.asMap().values().removeIf(article -> event.userId().equals(article.getAuthorId()));
+        }
+    }
+    
+    private static int estimateBytes(String slug, Article article) {
+        long bytes = ARTICLE_OVERHEAD_BYTES
+                + sizeOf(slug)
+                + sizeOf(article.getSlug())
+                + sizeOf(article.getTitle())
+                + sizeOf(article.getDescription())
+                + sizeOf(article.getBody())
+                + sizeOf(article.getAuthorUsername())
+                + sizeOf(article.getAuthorEmail())
+                + sizeOf(article.getAuthorBio())
+                + sizeOf(article.getAuthorImage());
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+    
+    private static long sizeOf(String value) {
+        // UTF-16 기준 보수적 추정 (compact string이면 실제로는 더 작음)
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + 2L * value.length();
+    }
+    
+    private static Article copyOf(Article source) {
+        Article copy = new Article(source.getSlug(), source.getTitle(), source.getDescription(),
+                source.getBody(), source.getAuthorId());
+        copy.setId(source.getId());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setFavoritesCount(source.getFavoritesCount());
+        copy.setAuthorUsername(source.getAuthorUsername());
+        copy.setAuthorEmail(source.getAuthorEmail());
+        copy.setAuthorBio(source.getAuthorBio());
+        copy.setAuthorImage(source.getAuthorImage());
+        return copy;
+    }
+}
@@ -0,0 +1,100 @@
+package com.realworld.conduit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.ArticleTagsChangedEvent;
+import com.realworld.conduit.event.ArticlesImportedEvent;
+import com.realworld.conduit.model.Article;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 목록 필터별 아티클 수 캐시
+ *
+ * 필터(전체/작성자/태그)별 COUNT 결과를 짧은 TTL로 보관해 필터당 COUNT 쿼리를 TTL마다 최대 한 번으로 제한함.
+ * 아티클 생성/삭제, 태그 변경은 커밋 후 해당 필터 항목을 무효화하므로 TTL 동안에도 정확한 값을 유지함.
+ *
+ * conduit.article-count-cache.enabled=false 이면 항상 loader를 직접 호출.
+ */
+@Component
+public class ArticleCountCache {
+    
+    private static final String ALL_KEY = "all";
+    private static final String AUTHOR_PREFIX = "author:";
+    private static final String TAG_PREFIX = "tag:";
+    private static final int MAX_ENTRIES = 10_000;
+    
+    private final Cache<String, Integer> cache;
+    
+    public ArticleCountCache(@Value("${conduit.article-count-cache.enabled:true}") boolean enabled,
+                             @Value("${conduit.article-count-cache.ttl:PT1M}") Duration ttl) {
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(MAX_ENTRIES)
+                        .expireAfterWrite(ttl)
+                        .build()
+                : null;
+    }
+    
+    public int countAll(Supplier<Integer> loader) {
+        return get(ALL_KEY, loader);
+    }
+    
+    public int countByAuthor(String authorUsername, Supplier<Integer> loader) {
+        return get(AUTHOR_PREFIX + authorUsername, loader);
+    }
+    
+    public int countByTag(String tag, Supplier<Integer> loader) {
+        return get(TAG_PREFIX + tag, loader);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleCreated(ArticleCreatedEvent event) {
+        invalidateArticle(event.article());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        invalidateArticle(event.article());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleTagsChanged(ArticleTagsChangedEvent event) {
+        invalidateTags(event.addedTags());
+        invalidateTags(event.removedTags());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+    
+    private int get(String key, Supplier<Integer> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        return cache.get(key, ignored -> loader.get());
+    }
+    
+    private void invalidateArticle(Article article) {
+        if (cache != null) {
+            cache.invalidate(ALL_KEY);
+            cache.invalidate(AUTHOR_PREFIX + article.getAuthorUsername());
+        }
+    }
+    
+    private void invalidateTags(List<String> tags) {
+        if (cache != null) {
+            tags.forEach(tag -> cache.invalidate(TAG_PREFIX + tag));
+        }
+    }
+}
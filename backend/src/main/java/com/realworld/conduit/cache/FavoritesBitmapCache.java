@@ -0,0 +1,169 @@
+package com.realworld.conduit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realworld.conduit.config.PrimaryReads;
+import com.realworld.conduit.event.ArticleFavoriteChangedEvent;
+import com.realworld.conduit.mapper.ArticleFavoriteMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 사용자별 즐겨찾기 아티클 id 비트맵 캐시
+ *
+ * 처음 조회할 때 사용자의 즐겨찾기 id 전체를 Roaring 비트맵으로 읽어 두고,
+ * 이후 상세/목록의 favorited 여부를 쿼리 없이 메모리에서 판정함.
+ * 즐겨찾기 추가/취소는 커밋 후 적재된 비트맵에만 반영하며 (삭제된 아티클 id는 재사용되지 않으므로 그대로 둠),
+ * 비트맵은 수정할 때마다 복사본으로 교체하므로 조회 스레드는 잠금 없이 읽음.
+ * 로드는 원본에서 실행해 지연된 복제본 값이 접근할 때마다 만료가 연장되며 남는 일이 없게 함.
+ * 비트맵 메모리 크기 추정치를 가중치로 바이트 상한(W-TinyLFU 제거)을 적용함.
+ *
+ * conduit.favorites-bitmap.enabled=false 이면 {@link #isEnabled()}가 false이며 호출자가 DB를 직접 조회.
+ */
+@Component
+@Slf4j
+public class FavoritesBitmapCache {
+
+    // 캐시 항목(키, 노드, 비트맵 객체 헤더) 고정 비용 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final long MAX_BITMAP_ID = 0xFFFFFFFFL;
+
+    public record Usage(long entries, long totalBytes, long averageBytesPerEntry) {}
+
+    private final ArticleFavoriteMapper articleFavoriteMapper;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, RoaringBitmap> cache;
+
+    public FavoritesBitmapCache(ArticleFavoriteMapper articleFavoriteMapper,
+                                PrimaryReads primaryReads,
+                                @Value("${conduit.favorites-bitmap.enabled:true}") boolean enabled,
+                                @Value("${conduit.favorites-bitmap.max-bytes:268435456}") long maxBytes,
+                                @Value("${conduit.favorites-bitmap.expire-after-access:PT30M}") Duration expireAfterAccess) {
+        this.articleFavoriteMapper = articleFavoriteMapper;
+        this.primaryReads = primaryReads;
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher(FavoritesBitmapCache::weigh)
+                        .expireAfterAccess(expireAfterAccess)
+                        .build()
+                : null;
+        log.info("즐겨찾기 비트맵 캐시 {}: maxBytes={}, expireAfterAccess={}",
+                enabled ? "활성화" : "비활성화", maxBytes, expireAfterAccess);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 사용자가 해당 아티클을 즐겨찾기했는지 확인 (비트맵이 없으면 한 번 로드)
+     */
+    public boolean isFavorited(Long userId, Long articleId) {
+        if (!fitsInBitmap(articleId)) {
+            return articleFavoriteMapper.isFavorited(articleId, userId);
+        }
+        return bitmapOf(userId).contains(articleId.intValue());
+    }
+
+    /**
+     * 주어진 아티클 중 사용자가 즐겨찾기한 id
+     */
+    public Set<Long> favoritedAmong(Long userId, Collection<Long> articleIds) {
+        RoaringBitmap bitmap = bitmapOf(userId);
+        Set<Long> favorited = new HashSet<>();
+        for (Long articleId : articleIds) {
+            boolean contains = fitsInBitmap(articleId)
+                    ? bitmap.contains(articleId.intValue())
+                    : articleFavoriteMapper.isFavorited(articleId, userId);
+            if (contains) {
+                favorited.add(articleId);
+            }
+        }
+        return favorited;
+    }
+
+    public void invalidate(Long userId) {
+        if (cache != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    /**
+     * 항목 수와 비트맵 크기 합계/평균 (1개 항목 평균 x 활성 사용자 수로 max-bytes를 산정)
+     */
+    public Usage usage() {
+        if (cache == null) {
+            return new Usage(0, 0, 0);
+        }
+        long entries = 0;
+        long totalBytes = 0;
+        for (RoaringBitmap bitmap : cache.asMap().values()) {
+            entries++;
+            totalBytes += ENTRY_OVERHEAD_BYTES + bitmap.getLongSizeInBytes();
+        }
+        return new Usage(entries, totalBytes, entries > 0 ? totalBytes / entries : 0);
+    }
+
+    /**
+     * 사용자 한 명의 비트맵 추정 크기 (적재되지 않았으면 0)
+     */
+    public long estimatedBytes(Long userId) {
+        RoaringBitmap bitmap = cache != null ? cache.getIfPresent(userId) : null;
+        return bitmap != null ? ENTRY_OVERHEAD_BYTES + bitmap.getLongSizeInBytes() : 0;
+    }
+
+    // 로드 중에 커밋된 변경은 같은 키의 compute가 로드 완료를 기다린 뒤 적용되므로 유실되지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleFavoriteChanged(ArticleFavoriteChangedEvent event) {
+        Long articleId = event.article().getId();
+        if (cache == null || !fitsInBitmap(articleId)) {
+            return;
+        }
+        cache.asMap().computeIfPresent(event.userId(), (userId, bitmap) -> {
+            RoaringBitmap updated = bitmap.clone();
+            if (event.favorited()) {
+                updated.add(articleId.intValue());
+            } else {
+                updated.remove(articleId.intValue());
+            }
+            updated.runOptimize();
+            return updated;
+        });
+    }
+
+    // 비활성화 상태에서 호출되면 캐시 없이 매번 로드
+    private RoaringBitmap bitmapOf(Long userId) {
+        return cache != null ? cache.get(userId, id -> primaryReads.load(() -> load(id))) : load(userId);
+    }
+
+    private RoaringBitmap load(Long userId) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Long articleId : articleFavoriteMapper.findArticleIdsByUserId(userId)) {
+            if (fitsInBitmap(articleId)) {
+                bitmap.add(articleId.intValue());
+            }
+        }
+        bitmap.runOptimize();
+        log.debug("즐겨찾기 비트맵 로드: userId={}, articles={}, bytes={}",
+                userId, bitmap.getLongCardinality(), bitmap.getLongSizeInBytes());
+        return bitmap;
+    }
+
+    // Roaring 비트맵은 부호 없는 32비트 정수 범위의 id만 담음
+    private static boolean fitsInBitmap(Long articleId) {
+        return articleId != null && articleId >= 0 && articleId <= MAX_BITMAP_ID;
+    }
+
+    private static int weigh(Long userId, RoaringBitmap bitmap) {
+        return (int) Math.min(ENTRY_OVERHEAD_BYTES + bitmap.getLongSizeInBytes(), Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,188 @@
+package com.realworld.conduit.cache;
+
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.FavoritesCountsFlushedEvent;
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.model.Article;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 즐겨찾기 수 write-behind 버퍼
+ *
+ * 즐겨찾기 추가/취소 증감분을 아티클별 LongAdder(스레드별로 분산된 셀)에 누적하고,
+ * 주기적으로 한 문장의 일괄 UPDATE로 articles.favorites_count에 반영함.
+ * 인기 아티클에 요청이 몰려도 같은 행 잠금을 두고 대기하지 않으며,
+ * 조회 시에는 저장된 값에 아직 반영되지 않은 증감분을 더해 응답함.
+ *
+ * 반영은 UPDATE 성공 후에 반영한 만큼만 빼므로 그 사이 들어온 증감분은 잃지 않고,
+ * 실패하면 다음 주기에 다시 시도함. 종료 시에도 남은 증감분을 반영함.
+ *
+ * conduit.favorites-count.write-behind=false 이면 호출 트랜잭션 안에서 바로 UPDATE.
+ */
+@Component
+@Slf4j
+public class FavoritesCountBuffer {
+
+    private record Pending(String slug, LongAdder delta) {}
+
+    private final ArticleMapper articleMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean writeBehind;
+    private final int batchSize;
+
+    // 한 번 증감된 아티클의 셀은 삭제 전까지 유지 (반영 중 동시 증감분 유실 방지)
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    public FavoritesCountBuffer(ArticleMapper articleMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${conduit.favorites-count.write-behind:true}") boolean writeBehind,
+                                @Value("${conduit.favorites-count.flush-batch-size:500}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+        this.articleMapper = articleMapper;
+        this.eventPublisher = eventPublisher;
+        this.writeBehind = writeBehind;
+        this.batchSize = batchSize;
+        log.info("즐겨찾기 수 write-behind {}: batchSize={}", writeBehind ? "활성화" : "비활성화", batchSize);
+    }
+
+    /**
+     * 증감분 기록 (트랜잭션 안이면 커밋된 경우에만 누적)
+     */
+    public void add(Article article, int delta) {
+        if (!writeBehind) {
+            articleMapper.updateFavoritesCount(article.getId(), delta);
+            eventPublisher.publishEvent(new FavoritesCountsFlushedEvent(List.of(article.getSlug())));
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(article, delta);
+                }
+            });
+        } else {
+            accumulate(article, delta);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분
+     */
+    public long pendingDelta(Long articleId) {
+        Pending entry = pending.get(articleId);
+        return entry != null ? entry.delta().sum() : 0;
+    }
+
+    /**
+     * 저장된 값과 미반영 증감분을 합친 현재 즐겨찾기 수
+     */
+    public int currentCount(Long articleId, int persistedCount) {
+        return (int) Math.max(persistedCount + pendingDelta(articleId), 0);
+    }
+
+    /**
+     * 누적된 증감분을 batchSize개 아티클씩 일괄 UPDATE로 반영
+     *
+     * @return 반영한 아티클 수
+     */
+    @Scheduled(fixedDelayString = "${conduit.favorites-count.flush-interval:PT1S}")
+    public int flush() {
+        synchronized (flushLock) {
+            Map<Long, Long> deltas = new LinkedHashMap<>();
+            Map<Long, String> slugs = new LinkedHashMap<>();
+            pending.forEach((articleId, entry) -> {
+                long delta = entry.delta().sum();
+                if (delta != 0) {
+                    deltas.put(articleId, delta);
+                    slugs.put(articleId, entry.slug());
+                }
+            });
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            int flushed = 0;
+            Map<Long, Long> batch = new LinkedHashMap<>();
+            for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                batch.put(entry.getKey(), entry.getValue());
+                if (batch.size() >= batchSize) {
+                    flushed += flushBatch(batch, slugs);
+                    batch = new LinkedHashMap<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushed += flushBatch(batch, slugs);
+            }
+            log.debug("즐겨찾기 수 반영: {}건", flushed);
+            return flushed;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!writeBehind) {
+            return;
+        }
+        int flushed = flush();
+        long remaining = pending.values().stream().filter(entry -> entry.delta().sum() != 0).count();
+        if (remaining > 0) {
+            log.warn("종료 시 즐겨찾기 수 반영 실패: {}건 (favorites_count 보정 작업으로 복구 필요)", remaining);
+        } else {
+            log.info("종료 시 즐겨찾기 수 반영 완료: {}건", flushed);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        pending.remove(event.article().getId());
+    }
+
+    private void accumulate(Article article, int delta) {
+        Pending entry = pending.get(article.getId());
+        if (entry == null) {
+            entry = pending.computeIfAbsent(article.getId(), id -> new Pending(article.getSlug(), new LongAdder()));
+        }
+        entry.delta().add(delta);
+    }
+
+    // 실패 시 누적분을 그대로 두어 다음 주기에 재시도
+    private int flushBatch(Map<Long, Long> batch, Map<Long, String> slugs) {
+        try {
+            articleMapper.addFavoritesCounts(batch);
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 수 반영 실패, 다음 주기에 재시도: {}건", batch.size(), e);
+            return 0;
+        }
+
+        List<String> flushedSlugs = new ArrayList<>(batch.size());
+        batch.forEach((articleId, delta) -> {
+            Pending entry = pending.get(articleId);
+            if (entry != null) {
+                entry.delta().add(-delta);
+            }
+            flushedSlugs.add(slugs.get(articleId));
+        });
+        eventPublisher.publishEvent(new FavoritesCountsFlushedEvent(flushedSlugs));
+        return batch.size();
+    }
+}
@@ -0,0 +1,170 @@
+package com.realworld.conduit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.ArticleTagsChangedEvent;
+import com.realworld.conduit.event.ArticleUpdatedEvent;
+import com.realworld.conduit.event.ArticlesImportedEvent;
+import com.realworld.conduit.event.FavoritesCountsFlushedEvent;
+import com.realworld.conduit.event.UserUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 사용자용 직렬화 완료 응답 캐시
+ *
+ * 아티클 상세(slug 단위)와 목록(쿼리 문자열 단위)의 JSON 바이트와 gzip 바이트를 함께 보관해
+ * 적중 시 Jackson 직렬화와 압축 없이 그대로 출력 스트림에 쓸 수 있게 함.
+ * 아티클 변경 이벤트는 커밋 후 해당 상세와 전체 목록 항목을, 프로필 수정은 모든 항목을 무효화하며,
+ * 무효화와 겹친 저장은 세대 번호로 감지해 오래된 응답이 남지 않게 함.
+ *
+ * conduit.response-cache.enabled=false 이면 항상 미스.
+ */
+@Component
+@Slf4j
+public class ResponseBytesCache {
+
+    private static final String ARTICLE_PREFIX = "article:";
+    private static final String LIST_PREFIX = "list:";
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    public record CachedResponse(byte[] body, byte[] gzippedBody, String contentType, String etag) {}
+
+    private final Cache<String, CachedResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseBytesCache(@Value("${conduit.response-cache.enabled:true}") boolean enabled,
+                              @Value("${conduit.response-cache.max-bytes:33554432}") long maxBytes,
+                              @Value("${conduit.response-cache.ttl:PT1M}") Duration ttl) {
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher(ResponseBytesCache::weigh)
+                        .expireAfterWrite(ttl)
+                        .build()
+                : null;
+        log.info("응답 바이트 캐시 {}: maxBytes={}, ttl={}", enabled ? "활성화" : "비활성화", maxBytes, ttl);
+    }
+
+    public static String articleKey(String slug) {
+        return ARTICLE_PREFIX + slug;
+    }
+
+    public static String listKey(String queryString) {
+        return LIST_PREFIX + (queryString != null ? queryString : "");
+    }
+
+    public CachedResponse get(String key) {
+        return cache != null ? cache.getIfPresent(key) : null;
+    }
+
+    /**
+     * 응답 생성 전에 읽어 두었다가 {@link #put}에 넘기는 세대 번호
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 응답 생성 도중 무효화가 있었다면 저장하지 않음
+     */
+    public void put(String key, long generationAtStart, byte[] body, String contentType, String etag) {
+        if (cache == null || generation.get() != generationAtStart) {
+            return;
+        }
+        cache.put(key, new CachedResponse(body, gzip(body), contentType, etag));
+        if (generation.get() != generationAtStart) {
+            cache.invalidate(key);
+        }
+    }
+
+    public long estimatedSize() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleCreated(ArticleCreatedEvent event) {
+        invalidateLists();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleUpdated(ArticleUpdatedEvent event) {
+        invalidateArticle(event.article().getSlug());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        invalidateArticle(event.article().getSlug());
+    }
+
+    // 즐겨찾기 수는 write-behind 반영 시점에 무효화 (반영 주기만큼 늦게 보일 수 있음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoritesCountsFlushed(FavoritesCountsFlushedEvent event) {
+        generation.incrementAndGet();
+        if (cache != null) {
+            event.slugs().forEach(slug -> cache.invalidate(articleKey(slug)));
+            cache.asMap().keySet().removeIf(key -> key.startsWith(LIST_PREFIX));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleTagsChanged(ArticleTagsChangedEvent event) {
+        invalidateLists();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        invalidateLists();
+    }
+
+    // 작성자 정보는 상세/목록 응답 어디에나 들어가므로 전체 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        generation.incrementAndGet();
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private void invalidateArticle(String slug) {
+        generation.incrementAndGet();
+        if (cache != null) {
+            cache.invalidate(articleKey(slug));
+            cache.asMap().keySet().removeIf(key -> key.startsWith(LIST_PREFIX));
+        }
+    }
+
+    private void invalidateLists() {
+        generation.incrementAndGet();
+        if (cache != null) {
+            cache.asMap().keySet().removeIf(key -> key.startsWith(LIST_PREFIX));
+        }
+    }
+
+    private static int weigh(String key, CachedResponse response) {
+        long bytes = ENTRY_OVERHEAD_BYTES + 2L * key.length()
+                + response.body().length + response.gzippedBody().length;
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 3));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
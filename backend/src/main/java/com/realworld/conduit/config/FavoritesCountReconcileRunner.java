@@ -0,0 +1,31 @@
+package com.realworld.conduit.config;
+
+import com.realworld.conduit.service.FavoritesCountReconciler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * favorites_count 보정 실행 명령
+ *
+ * --conduit.favorites-count.reconcile=true 로 기동하면 시작 시 한 번 보정을 수행함.
+ * 배치 크기는 conduit.favorites-count.batch-size 로 조정 (기본 1000).
+ */
+@Component
+@ConditionalOnProperty(name = "conduit.favorites-count.reconcile", havingValue = "true")
+@RequiredArgsConstructor
+public class FavoritesCountReconcileRunner implements ApplicationRunner {
+    
+    private final FavoritesCountReconciler reconciler;
+    
+    @Value("${conduit.favorites-count.batch-size:" + FavoritesCountReconciler.DEFAULT_BATCH_SIZE + "}")
+    private int batchSize;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        reconciler.reconcile(batchSize);
+    }
+}
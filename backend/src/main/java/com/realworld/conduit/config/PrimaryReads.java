@@ -0,0 +1,43 @@
+package com.realworld.conduit.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연 없이 원본에서 읽어야 하는 조회 실행 (캐시 로더용)
+ *
+ * 커밋 후 무효화된 캐시를 읽기 전용 트랜잭션 안에서 다시 채우면 아직 따라오지 못한 복제본 값이 캐시에 남으므로,
+ * 복제본 라우팅이 켜져 있고 현재 트랜잭션이 읽기 전용이면 트랜잭션을 잠시 보류하고 원본 커넥션으로 실행함.
+ * 쓰기 트랜잭션은 이미 원본을 쓰므로 그대로 실행해 커넥션을 하나 더 잡지 않음.
+ */
+@Component
+public class PrimaryReads {
+
+    // 라우팅이 꺼져 있으면 null (항상 그대로 실행)
+    private final TransactionTemplate suspending;
+
+    @Autowired
+    public PrimaryReads(PlatformTransactionManager transactionManager,
+                        @Value("${conduit.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        if (replicaEnabled) {
+            this.suspending = new TransactionTemplate(transactionManager);
+            this.suspending.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        } else {
+            this.suspending = null;
+        }
+    }
+
+    public <T> T load(Supplier<T> loader) {
+        if (suspending == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+        return suspending.execute(status -> loader.get());
+    }
+}
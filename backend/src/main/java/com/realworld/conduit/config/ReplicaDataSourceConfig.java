@@ -0,0 +1,76 @@
+package com.realworld.conduit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정
+ *
+ * conduit.datasource.replica.enabled=true 일 때만 적용되며, 그 외에는 Spring Boot 기본 DataSource를 그대로 사용.
+ * 원본은 spring.datasource.*, 복제본은 conduit.datasource.replica.* (Hikari 속성: jdbc-url, username,
+ * password, maximum-pool-size 등)로 설정함.
+ * 원본/복제본/라우팅 DataSource는 주입 후보에서 제외하고, LazyConnectionDataSourceProxy 하나만 노출해
+ * MyBatis와 트랜잭션 매니저가 같은 DataSource를 쓰도록 함.
+ */
+@Configuration
+@ConditionalOnProperty(name = "conduit.datasource.replica.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReplicaDataSourceConfig {
+
+    private final DataSourceProperties properties;
+
+    @Value("${conduit.datasource.routing.validation-timeout-seconds:2}")
+    private int validationTimeoutSeconds;
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource() {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("conduit.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(autowireCandidate = false)
+    public ReplicaRoutingDataSource routingDataSource() {
+        return new ReplicaRoutingDataSource(primaryDataSource(), replicaDataSource(), validationTimeoutSeconds);
+    }
+
+    /**
+     * 첫 쿼리 실행 시점까지 커넥션 획득을 미뤄 readOnly 트랜잭션 여부로 라우팅되도록 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(routingDataSource());
+    }
+
+    /**
+     * 복제본 상태 점검 (실패 시 읽기를 원본으로 보내고, 성공하면 다시 복제본으로 보냄)
+     */
+    @Scheduled(fixedDelayString = "${conduit.datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicaHealth() {
+        routingDataSource().checkReplica();
+    }
+}
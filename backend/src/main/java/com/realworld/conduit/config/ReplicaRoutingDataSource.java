@@ -0,0 +1,90 @@
+package com.realworld.conduit.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외는 원본으로 보내는 라우팅 DataSource
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * LazyConnectionDataSourceProxy로 감싸 첫 쿼리 실행 시점에 커넥션을 고르도록 해야 함.
+ * 복제본 커넥션 획득에 실패하면 원본으로 대신 연결하고 복제본을 비정상으로 표시하며,
+ * 이후 {@link #checkReplica()}가 성공할 때까지 읽기도 원본으로 보냄.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final int validationTimeoutSeconds;
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, int validationTimeoutSeconds) {
+        this.primary = primary;
+        this.replica = replica;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        initialize();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaAvailable.get()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() != Route.REPLICA) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 복제본 커넥션 유효성 검사 후 상태 갱신
+     *
+     * @return 복제본 사용 가능 여부
+     */
+    public boolean checkReplica() {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(validationTimeoutSeconds)) {
+                markReplicaDown(null);
+                return false;
+            }
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return false;
+        }
+        if (replicaAvailable.compareAndSet(false, true)) {
+            log.info("복제본 DataSource 복구, 읽기 전용 트랜잭션을 다시 복제본으로 보냄");
+        }
+        return true;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable.get();
+    }
+
+    private void markReplicaDown(SQLException cause) {
+        if (replicaAvailable.compareAndSet(true, false)) {
+            log.warn("복제본 DataSource 사용 불가, 읽기 전용 트랜잭션을 원본으로 보냄", cause);
+        }
+    }
+}
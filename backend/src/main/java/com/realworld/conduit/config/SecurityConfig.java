@@ -6,6 +6,7 @@ import com.realworld.conduit.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -40,8 +41,13 @@ public class SecurityConfig {
                 .requestMatchers("/api/users").permitAll()     // 회원가입만 허용
                 .requestMatchers("/login").permitAll()         // 로그인 허용
                 .requestMatchers("/api/articles").permitAll()  // 글 조회 허용
+                .requestMatchers(HttpMethod.GET, "/api/articles/search").permitAll() // 글 검색 허용
+                .requestMatchers(HttpMethod.GET, "/api/articles/feed").authenticated() // 피드는 로그인 필요
+                .requestMatchers(HttpMethod.GET, "/api/articles/*").permitAll() // 글 상세 조회 허용
+                .requestMatchers(HttpMethod.GET, "/api/tags").permitAll()  // 태그 목록 허용
                 .requestMatchers("/api/articles/*/comments").permitAll() // 댓글 조회 허용
                 .requestMatchers("/api/users/*").permitAll()   // 사용자 프로필 조회 허용 (팔로우 정보 포함)
+                .requestMatchers("/api/admin/**").hasRole("ADMIN") // 관리자 전용 (내보내기 등)
                 .anyRequest().authenticated()                   // 나머지는 인증 필요
             )
             .formLogin(form -> form
@@ -0,0 +1,30 @@
+package com.realworld.conduit.config;
+
+import com.realworld.conduit.search.ArticleSearchService;
+import com.realworld.conduit.service.PopularTagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 DB에서 메모리 집계/색인을 적재하는 작업
+ *
+ * 인기 태그 집계를 적재하고 검색 색인 재구축을 백그라운드로 시작함.
+ * 스키마 없이 컨텍스트만 띄우는 테스트에서는 conduit.startup-jobs.enabled=false 로 끔 (기본 켜짐).
+ */
+@Component
+@ConditionalOnProperty(name = "conduit.startup-jobs.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class StartupWarmupRunner {
+    
+    private final PopularTagService popularTagService;
+    private final ArticleSearchService articleSearchService;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        popularTagService.reconcile();
+        articleSearchService.rebuildInBackground();
+    }
+}
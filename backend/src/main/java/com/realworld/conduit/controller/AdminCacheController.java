@@ -0,0 +1,59 @@
+package com.realworld.conduit.controller;
+
+import com.realworld.conduit.cache.FavoritesBitmapCache;
+import com.realworld.conduit.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class AdminCacheController {
+
+    private static final long DEFAULT_PROJECTED_USERS = 1_000_000L;
+
+    private final FavoritesBitmapCache favoritesBitmapCache;
+
+    @Autowired
+    public AdminCacheController(FavoritesBitmapCache favoritesBitmapCache) {
+        this.favoritesBitmapCache = favoritesBitmapCache;
+    }
+
+    /**
+     * 즐겨찾기 비트맵 캐시 메모리 사용량 (ROLE_ADMIN 전용)
+     * 항목당 평균 크기 x projectedUsers 로 max-bytes 산정치를 함께 응답하고,
+     * userId를 주면 해당 사용자 비트맵 크기도 포함함 (적재되지 않았으면 0)
+     */
+    @GetMapping("/favorites-bitmap")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getFavoritesBitmapUsage(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(defaultValue = "" + DEFAULT_PROJECTED_USERS) long projectedUsers) {
+
+        if (projectedUsers <= 0) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("INVALID_PROJECTED_USERS", "projectedUsers 값은 1 이상이어야 합니다."));
+        }
+
+        FavoritesBitmapCache.Usage usage = favoritesBitmapCache.usage();
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("enabled", favoritesBitmapCache.isEnabled());
+        data.put("entries", usage.entries());
+        data.put("totalBytes", usage.totalBytes());
+        data.put("averageBytesPerEntry", usage.averageBytesPerEntry());
+        data.put("projectedUsers", projectedUsers);
+        data.put("projectedBytes", usage.averageBytesPerEntry() * projectedUsers);
+        if (userId != null) {
+            data.put("userId", userId);
+            data.put("userBytes", favoritesBitmapCache.estimatedBytes(userId));
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+}
@@ -0,0 +1,60 @@
+package com.realworld.conduit.controller;
+
+import com.realworld.conduit.service.ArticleExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/admin/export")
+public class AdminExportController {
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ArticleExportService articleExportService;
+
+    @Autowired
+    public AdminExportController(ArticleExportService articleExportService) {
+        this.articleExportService = articleExportService;
+    }
+
+    /**
+     * 전체 아티클과 댓글을 NDJSON으로 응답 스트림에 직접 씀 (ROLE_ADMIN 전용)
+     * gzip=true 이면 Content-Encoding: gzip 으로 압축해서 전송
+     *
+     * 응답을 메모리에 모으지 않도록 비동기 응답이나 ResponseEntity 대신 서블릿 출력 스트림을 그대로 사용하며,
+     * 스트리밍 도중 오류는 이미 헤더가 전송된 뒤이므로 연결 종료로만 드러남.
+     */
+    @GetMapping("/articles")
+    public void exportArticles(
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("articles.ndjson").build().toString());
+
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE);
+            articleExportService.exportArticles(out);
+            out.finish();
+        } else {
+            OutputStream out = response.getOutputStream();
+            articleExportService.exportArticles(out);
+        }
+        response.flushBuffer();
+    }
+}
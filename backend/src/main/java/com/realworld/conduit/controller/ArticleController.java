@@ -3,28 +3,38 @@ package com.realworld.conduit.controller;
 import com.realworld.conduit.dto.ApiResponse;
 import com.realworld.conduit.dto.ArticleRequest;
 import com.realworld.conduit.dto.ArticleResponse;
+import com.realworld.conduit.dto.ArticleSummaryResponse;
 import com.realworld.conduit.model.Article;
 import com.realworld.conduit.service.ArticleService;
+import com.realworld.conduit.service.FeedService;
+import com.realworld.conduit.util.ArticleCursor;
+import com.realworld.conduit.util.ETags;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/articles")
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final FeedService feedService;
 
     @Autowired
-    public ArticleController(ArticleService articleService) {
+    public ArticleController(ArticleService articleService, FeedService feedService) {
         this.articleService = articleService;
+        this.feedService = feedService;
     }
 
     @PostMapping
@@ -52,23 +62,41 @@ public class ArticleController {
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<ApiResponse<Map<String, ArticleResponse>>> getArticle(@PathVariable String slug, Authentication authentication) {
+    public ResponseEntity<ApiResponse<Map<String, ArticleResponse>>> getArticle(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
         try {
-            ArticleResponse article = articleService.getArticle(slug);
+            // 캐시된 모델과 태그 목록으로 ETag를 계산해 변경이 없으면 응답 생성 없이 304 반환
+            Article existingArticle = articleService.getArticleModelBySlug(slug);
+            if (existingArticle == null) {
+                throw new RuntimeException("아티클을 찾을 수 없습니다.");
+            }
 
             // Set favorited status if user is authenticated
+            boolean favorited = false;
             if (authentication != null && authentication.isAuthenticated()) {
-                String userEmail = authentication.getName();
-                Article existingArticle = articleService.getArticleModelBySlug(slug);
-                if (existingArticle != null) {
-                    article.setFavorited(articleService.isFavorited(existingArticle.getId(), userEmail));
-                }
+                favorited = articleService.isFavorited(existingArticle.getId(), authentication.getName());
+            }
+
+            // updated_at은 초 단위로 저장되므로 같은 초 안의 연속 수정도 구분되도록 내용 필드를 함께 해시
+            List<String> tagList = articleService.getTagNames(existingArticle.getId());
+            String etag = ETags.strong(existingArticle.getId(), existingArticle.getUpdatedAt(),
+                    existingArticle.getTitle(), existingArticle.getDescription(), existingArticle.getBody(), tagList,
+                    existingArticle.getFavoritesCount(), existingArticle.getAuthorUsername(),
+                    existingArticle.getAuthorBio(), existingArticle.getAuthorImage(), favorited);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
             }
 
+            ArticleResponse article = new ArticleResponse(existingArticle);
+            article.setTagList(tagList);
+            article.setFavorited(favorited);
+
             Map<String, ArticleResponse> data = new HashMap<>();
             data.put("article", article);
 
-            return ResponseEntity.ok(ApiResponse.success(data));
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(data));
 
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -80,44 +108,58 @@ public class ArticleController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> getArticles(
             @RequestParam(defaultValue = "0") int offset,
             @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String author,
             @RequestParam(required = false) String tag,
+            @RequestParam(defaultValue = "false") boolean includeBody,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Authentication authentication) {
 
         try {
-            List<ArticleResponse> articles;
+            List<ArticleSummaryResponse> articles;
             int totalCount;
 
+            // cursor가 주어지면 keyset 페이지네이션, 없으면 기존 offset 방식
+            ArticleCursor position = (cursor != null && !cursor.isEmpty()) ? ArticleCursor.decode(cursor) : null;
+
             if (author != null && !author.isEmpty()) {
-                articles = articleService.getArticlesByAuthor(author, offset, limit);
-                // For simplicity, we're not implementing a separate count method for author-specific articles
-                totalCount = articles.size();
+                articles = position != null
+                        ? articleService.getArticlesByAuthor(author, position, limit)
+                        : articleService.getArticlesByAuthor(author, offset, limit);
+                totalCount = articleService.getArticlesCountByAuthor(author);
             } else if (tag != null && !tag.isEmpty()) {
-                articles = articleService.getArticlesByTag(tag, offset, limit);
-                // For simplicity, we're not implementing a separate count method for tag-specific articles
-                totalCount = articles.size();
+                articles = position != null
+                        ? articleService.getArticlesByTag(tag, position, limit)
+                        : articleService.getArticlesByTag(tag, offset, limit);
+                totalCount = articleService.getArticlesCountByTag(tag);
             } else {
-                articles = articleService.getArticles(offset, limit);
+                articles = position != null
+                        ? articleService.getArticles(position, limit)
+                        : articleService.getArticles(offset, limit);
                 totalCount = articleService.getTotalArticlesCount();
             }
 
+            // 목록은 기본적으로 본문 없는 요약 응답, includeBody=true일 때만 본문 일괄 조회
+            if (includeBody) {
+                articles = articleService.withBodies(articles);
+            }
+
             // Set favorited status for authenticated users
             if (authentication != null && authentication.isAuthenticated()) {
-                String userEmail = authentication.getName();
-                for (ArticleResponse article : articles) {
-                    // Get the article ID by slug
-                    Long articleId = articleService.getArticleIdBySlug(article.getSlug());
-                    if (articleId != null) {
-                        article.setFavorited(articleService.isFavorited(articleId, userEmail));
-                    }
-                }
+                markFavorited(articles, authentication.getName());
+            }
+
+            String etag = listETag(articles, totalCount, includeBody);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
             }
 
             Map<String, Object> data = new HashMap<>();
             data.put("articles", articles);
             data.put("articlesCount", totalCount);
+            data.put("nextCursor", nextCursor(articles, limit));
 
-            return ResponseEntity.ok(ApiResponse.success(data));
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(data));
 
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -125,6 +167,82 @@ public class ArticleController {
         }
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getFeed(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
+
+        try {
+            String userEmail = authentication.getName();
+            ArticleCursor position = (cursor != null && !cursor.isEmpty()) ? ArticleCursor.decode(cursor) : null;
+
+            List<ArticleSummaryResponse> articles = feedService.getFeed(userEmail, position, limit);
+            markFavorited(articles, userEmail);
+
+            String etag = listETag(articles, articles.size(), false);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("articles", articles);
+            data.put("articlesCount", articles.size());
+            data.put("nextCursor", nextCursor(articles, limit));
+
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(data));
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("FEED_FETCH_FAILED", e.getMessage()));
+        }
+    }
+
+    private void markFavorited(List<ArticleSummaryResponse> articles, String userEmail) {
+        List<Long> articleIds = articles.stream()
+                .map(ArticleSummaryResponse::getId)
+                .collect(Collectors.toList());
+        Set<Long> favoritedIds = articleService.getFavoritedArticleIds(articleIds, userEmail);
+        for (ArticleSummaryResponse article : articles) {
+            article.setFavorited(favoritedIds.contains(article.getId()));
+        }
+    }
+
+    // 목록 ETag: 각 아티클의 응답 필드와 전체 개수를 해시
+    // (updated_at은 초 단위라 같은 초 안의 수정을 구분하지 못하므로 제목/설명/본문도 포함)
+    private String listETag(List<ArticleSummaryResponse> articles, int totalCount, boolean includeBody) {
+        List<Object> parts = new ArrayList<>(articles.size() * 11 + 2);
+        parts.add(totalCount);
+        parts.add(includeBody);
+        for (ArticleSummaryResponse article : articles) {
+            parts.add(article.getId());
+            parts.add(article.getUpdatedAt());
+            parts.add(article.getTitle());
+            parts.add(article.getDescription());
+            if (article instanceof ArticleResponse detail) {
+                parts.add(detail.getBody());
+            }
+            parts.add(article.getFavoritesCount());
+            parts.add(article.isFavorited());
+            parts.add(article.getTagList());
+            if (article.getAuthor() != null) {
+                parts.add(article.getAuthor().getUsername());
+                parts.add(article.getAuthor().getBio());
+                parts.add(article.getAuthor().getImage());
+            }
+        }
+        return ETags.strong(parts);
+    }
+
+    private String nextCursor(List<ArticleSummaryResponse> articles, int limit) {
+        if (articles.isEmpty() || articles.size() < limit) {
+            return null;
+        }
+        ArticleSummaryResponse last = articles.get(articles.size() - 1);
+        return new ArticleCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+
     @PutMapping("/{slug}")
     public ResponseEntity<ApiResponse<Map<String, ArticleResponse>>> updateArticle(
             @PathVariable String slug,
@@ -135,11 +253,8 @@ public class ArticleController {
             String userEmail = authentication.getName();
             ArticleResponse article = articleService.updateArticle(slug, request, userEmail);
 
-            // Set favorited status
-            Long articleId = articleService.getArticleIdBySlug(slug);
-            if (articleId != null) {
-                article.setFavorited(articleService.isFavorited(articleId, userEmail));
-            }
+            // Set favorited status (응답에 id가 있으므로 slug로 다시 조회하지 않음)
+            article.setFavorited(articleService.isFavorited(article.getId(), userEmail));
 
             Map<String, ArticleResponse> data = new HashMap<>();
             data.put("article", article);
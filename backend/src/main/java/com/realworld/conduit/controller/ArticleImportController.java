@@ -0,0 +1,44 @@
+package com.realworld.conduit.controller;
+
+import com.realworld.conduit.dto.ApiResponse;
+import com.realworld.conduit.dto.ArticleImportResult;
+import com.realworld.conduit.service.ArticleImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/articles/import")
+public class ArticleImportController {
+
+    private final ArticleImportService articleImportService;
+
+    @Autowired
+    public ArticleImportController(ArticleImportService articleImportService) {
+        this.articleImportService = articleImportService;
+    }
+
+    /**
+     * NDJSON 본문(한 줄에 아티클 JSON 하나)을 스트리밍으로 읽어 인증 사용자 이름으로 일괄 저장
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ArticleImportResult>> importArticles(
+            HttpServletRequest request,
+            Authentication authentication) {
+
+        try {
+            ArticleImportResult result = articleImportService.importArticles(
+                    request.getInputStream(), authentication.getName());
+
+            return ResponseEntity.ok(ApiResponse.success(result, "아티클 가져오기가 완료되었습니다."));
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("ARTICLE_IMPORT_FAILED", e.getMessage()));
+        }
+    }
+}
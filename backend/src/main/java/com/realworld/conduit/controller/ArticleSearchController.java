@@ -0,0 +1,53 @@
+package com.realworld.conduit.controller;
+
+import com.realworld.conduit.dto.ApiResponse;
+import com.realworld.conduit.dto.ArticleSearchResponse;
+import com.realworld.conduit.search.ArticleSearchService;
+import com.realworld.conduit.search.SearchResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/articles/search")
+public class ArticleSearchController {
+
+    private final ArticleSearchService articleSearchService;
+
+    @Autowired
+    public ArticleSearchController(ArticleSearchService articleSearchService) {
+        this.articleSearchService = articleSearchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> searchArticles(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SEARCH_QUERY_REQUIRED", "검색어는 필수입니다."));
+        }
+
+        // 색인 조회 중 예외는 요청 오류가 아니므로 400으로 바꾸지 않고 기본 오류 처리(500)에 맡김
+        SearchResult result = articleSearchService.search(q, Math.max(offset, 0), Math.max(limit, 0));
+        List<ArticleSearchResponse> articles = result.hits().stream()
+                .map(ArticleSearchResponse::new)
+                .collect(Collectors.toList());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("articles", articles);
+        data.put("articlesCount", result.totalHits());
+
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+}
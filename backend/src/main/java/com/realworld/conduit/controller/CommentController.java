@@ -4,13 +4,16 @@ import com.realworld.conduit.dto.ApiResponse;
 import com.realworld.conduit.dto.CommentRequest;
 import com.realworld.conduit.dto.CommentResponse;
 import com.realworld.conduit.service.CommentService;
+import com.realworld.conduit.util.ETags;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,16 +52,35 @@ public class CommentController {
     }
     
     @GetMapping
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getComments(@PathVariable String slug) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getComments(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             List<CommentResponse> comments = commentService.getComments(slug);
             int commentsCount = commentService.getCommentsCount(slug);
             
+            // 댓글은 수정되지 않으므로 id/작성 시각과 작성자 프로필만으로 ETag 계산
+            List<Object> parts = new ArrayList<>(comments.size() * 5 + 1);
+            parts.add(commentsCount);
+            for (CommentResponse comment : comments) {
+                parts.add(comment.getId());
+                parts.add(comment.getCreatedAt());
+                if (comment.getAuthor() != null) {
+                    parts.add(comment.getAuthor().getUsername());
+                    parts.add(comment.getAuthor().getBio());
+                    parts.add(comment.getAuthor().getImage());
+                }
+            }
+            String etag = ETags.strong(parts);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            
             Map<String, Object> data = new HashMap<>();
             data.put("comments", comments);
             data.put("commentsCount", commentsCount);
             
-            return ResponseEntity.ok(ApiResponse.success(data));
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(data));
             
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -0,0 +1,62 @@
+package com.realworld.conduit.controller;
+
+import com.realworld.conduit.dto.ApiResponse;
+import com.realworld.conduit.mapper.TagMapper;
+import com.realworld.conduit.model.Tag;
+import com.realworld.conduit.service.PopularTagService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/tags")
+public class TagController {
+
+    private final PopularTagService popularTagService;
+    private final TagMapper tagMapper;
+
+    @Autowired
+    public TagController(PopularTagService popularTagService, TagMapper tagMapper) {
+        this.popularTagService = popularTagService;
+        this.tagMapper = tagMapper;
+    }
+
+    /**
+     * popular=N 이면 메모리 집계에서 사용 수 상위 N개, 없으면 전체 태그 이름순
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, List<String>>>> getTags(
+            @RequestParam(required = false) Integer popular) {
+
+        if (popular != null && (popular <= 0 || popular > PopularTagService.MAX_POPULAR)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("INVALID_POPULAR_LIMIT",
+                            "popular 값은 1 이상 " + PopularTagService.MAX_POPULAR + " 이하여야 합니다."));
+        }
+
+        try {
+            List<String> tags = popular != null
+                    ? popularTagService.getPopularTags(popular)
+                    : tagMapper.findAllTags().stream()
+                            .map(Tag::getName)
+                            .collect(Collectors.toList());
+
+            Map<String, List<String>> data = new HashMap<>();
+            data.put("tags", tags);
+
+            return ResponseEntity.ok(ApiResponse.success(data));
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("TAGS_FETCH_FAILED", e.getMessage()));
+        }
+    }
+}
@@ -6,9 +6,11 @@ import com.realworld.conduit.dto.UserRegistrationRequest;
 import com.realworld.conduit.dto.UserResponse;
 import com.realworld.conduit.dto.UserUpdateRequest;
 import com.realworld.conduit.service.UserService;
+import com.realworld.conduit.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -75,11 +77,20 @@ public class UserController {
     @GetMapping("/{username}")
     public ResponseEntity<ApiResponse<UserResponse>> getUserProfile(
             @PathVariable String username,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Authentication authentication) {
         try {
             String currentUserEmail = authentication != null ? authentication.getName() : null;
             UserResponse userResponse = userService.getUserProfile(username, currentUserEmail);
-            return ResponseEntity.ok(ApiResponse.success(userResponse));
+            
+            // 프로필 필드와 팔로우 상태/카운트로 ETag 계산, 변경 없으면 직렬화 없이 304
+            String etag = ETags.strong(userResponse.getId(), userResponse.getUsername(), userResponse.getEmail(),
+                    userResponse.getBio(), userResponse.getImage(), userResponse.isFollowing(),
+                    userResponse.getFollowersCount(), userResponse.getFollowingCount());
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(userResponse));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error("USER_NOT_FOUND", "사용자를 찾을 수 없습니다"));
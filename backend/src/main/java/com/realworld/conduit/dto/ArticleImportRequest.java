@@ -0,0 +1,32 @@
+package com.realworld.conduit.dto;
+
+/**
+ * NDJSON 가져오기 한 줄 (아티클 생성 요청 + 원본 작성/수정 시각)
+ *
+ * createdAt/updatedAt은 내보내기 출력과 같은 ISO-8601 로컬 시각 문자열(예: 2024-01-01T12:00:00)이며 생략 가능.
+ * 형식 오류를 줄 단위로 거부하기 위해 문자열로 받아 서비스에서 변환함.
+ */
+public class ArticleImportRequest extends ArticleRequest {
+    
+    private String createdAt;
+    
+    private String updatedAt;
+    
+    public ArticleImportRequest() {}
+    
+    public String getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(String updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,82 @@
+package com.realworld.conduit.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 가져오기 결과 (저장/거부/실패 건수와 앞쪽 오류 메시지 일부)
+ */
+public class ArticleImportResult {
+    
+    private static final int MAX_REPORTED_ERRORS = 100;
+    
+    private int imported;
+    private int rejected;
+    private int failed;
+    private int chunks;
+    private boolean aborted;
+    private long elapsedMillis;
+    private final List<String> errors = new ArrayList<>();
+    
+    public void addImported(int count) {
+        imported += count;
+        chunks++;
+    }
+    
+    // 필수 항목 누락 등으로 건너뛴 줄
+    public void reject(long lineNumber, String message) {
+        rejected++;
+        addError(lineNumber + "행: " + message);
+    }
+    
+    // 재시도 후에도 저장하지 못해 롤백된 청크
+    public void failChunk(int count, String message) {
+        failed += count;
+        chunks++;
+        addError("청크 저장 실패(" + count + "건): " + message);
+    }
+    
+    // 잘못된 JSON으로 이후 줄을 읽을 수 없는 경우
+    public void abort(long lineNumber, String message) {
+        aborted = true;
+        addError(lineNumber + "행: " + message);
+    }
+    
+    private void addError(String error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+    }
+    
+    public int getImported() {
+        return imported;
+    }
+    
+    public int getRejected() {
+        return rejected;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public int getChunks() {
+        return chunks;
+    }
+    
+    public boolean isAborted() {
+        return aborted;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+}
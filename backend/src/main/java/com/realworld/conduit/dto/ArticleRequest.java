@@ -2,6 +2,8 @@ package com.realworld.conduit.dto;
 
 import jakarta.validation.constraints.NotBlank;
 
+import java.util.List;
+
 public class ArticleRequest {
     
     @NotBlank(message = "제목은 필수입니다.")
@@ -13,6 +15,8 @@ public class ArticleRequest {
     @NotBlank(message = "내용은 필수입니다.")
     private String body;
     
+    private List<String> tagList;
+    
     public ArticleRequest() {}
     
     public ArticleRequest(String title, String description, String body) {
@@ -44,4 +48,12 @@ public class ArticleRequest {
     public void setBody(String body) {
         this.body = body;
     }
+    
+    public List<String> getTagList() {
+        return tagList;
+    }
+    
+    public void setTagList(List<String> tagList) {
+        this.tagList = tagList;
+    }
 }
\ No newline at end of file
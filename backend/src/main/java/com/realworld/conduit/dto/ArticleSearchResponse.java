@@ -0,0 +1,74 @@
+package com.realworld.conduit.dto;
+
+import com.realworld.conduit.search.SearchDocument;
+import com.realworld.conduit.search.SearchHit;
+import java.time.LocalDateTime;
+
+public class ArticleSearchResponse {
+    private String slug;
+    private String title;
+    private String description;
+    private String authorUsername;
+    private LocalDateTime createdAt;
+    private double score;
+    
+    public ArticleSearchResponse() {}
+    
+    public ArticleSearchResponse(SearchHit hit) {
+        SearchDocument document = hit.document();
+        this.slug = document.slug();
+        this.title = document.title();
+        this.description = document.description();
+        this.authorUsername = document.authorUsername();
+        this.createdAt = document.createdAt();
+        this.score = hit.score();
+    }
+    
+    public String getSlug() {
+        return slug;
+    }
+    
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public String getAuthorUsername() {
+        return authorUsername;
+    }
+    
+    public void setAuthorUsername(String authorUsername) {
+        this.authorUsername = authorUsername;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public double getScore() {
+        return score;
+    }
+    
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,160 @@
+package com.realworld.conduit.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.realworld.conduit.model.Article;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아티클 목록용 요약 응답
+ *
+ * 본문(body)과 작성자 이메일을 포함하지 않아 목록 조회 시 DB 읽기, JDBC 전송,
+ * JSON 직렬화 비용을 모두 줄임. 본문이 필요하면 {@link ArticleResponse} 사용.
+ */
+public class ArticleSummaryResponse {
+    // 목록 후처리(즐겨찾기 여부 일괄 조회)용 내부 식별자, 응답에는 포함하지 않음
+    @JsonIgnore
+    private Long id;
+    private String slug;
+    private String title;
+    private String description;
+    private List<String> tagList;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private AuthorResponse author;
+    private int favoritesCount;
+    private boolean favorited;
+    
+    public ArticleSummaryResponse() {}
+    
+    public ArticleSummaryResponse(Article article) {
+        this.id = article.getId();
+        this.slug = article.getSlug();
+        this.title = article.getTitle();
+        this.description = article.getDescription();
+        this.tagList = new ArrayList<>();
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdatedAt();
+        
+        this.author = new AuthorResponse();
+        this.author.setUsername(article.getAuthorUsername());
+        this.author.setBio(article.getAuthorBio());
+        this.author.setImage(article.getAuthorImage());
+        
+        // favoritesCount는 articles.favorites_count 비정규화 컬럼 값, favorited는 컨트롤러에서 설정
+        this.favoritesCount = article.getFavoritesCount();
+        this.favorited = false;
+    }
+    
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getSlug() {
+        return slug;
+    }
+    
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public List<String> getTagList() {
+        return tagList;
+    }
+    
+    public void setTagList(List<String> tagList) {
+        this.tagList = tagList;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public AuthorResponse getAuthor() {
+        return author;
+    }
+    
+    public void setAuthor(AuthorResponse author) {
+        this.author = author;
+    }
+    
+    public int getFavoritesCount() {
+        return favoritesCount;
+    }
+    
+    public void setFavoritesCount(int favoritesCount) {
+        this.favoritesCount = favoritesCount;
+    }
+    
+    public boolean isFavorited() {
+        return favorited;
+    }
+    
+    public void setFavorited(boolean favorited) {
+        this.favorited = favorited;
+    }
+    
+    public static class AuthorResponse {
+        private String username;
+        private String bio;
+        private String image;
+        
+        public String getUsername() {
+            return username;
+        }
+        
+        public void setUsername(String username) {
+            this.username = username;
+        }
+        
+        public String getBio() {
+            return bio;
+        }
+        
+        public void setBio(String bio) {
+            this.bio = bio;
+        }
+        
+        public String getImage() {
+            return image;
+        }
+        
+        public void setImage(String image) {
+            this.image = image;
+        }
+    }
+}
\ No newline at end of file
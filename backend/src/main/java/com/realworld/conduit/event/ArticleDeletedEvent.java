@@ -0,0 +1,9 @@
+package com.realworld.conduit.event;
+
+import com.realworld.conduit.model.Article;
+
+/**
+ * 아티클 삭제 이벤트 (트랜잭션 커밋 후 처리되는 리스너용)
+ */
+public record ArticleDeletedEvent(Article article) {
+}
@@ -0,0 +1,9 @@
+package com.realworld.conduit.event;
+
+import com.realworld.conduit.model.Article;
+
+/**
+ * 즐겨찾기 추가/취소 이벤트 (실제로 행이 변경된 경우에만 발행)
+ */
+public record ArticleFavoriteChangedEvent(Article article, Long userId, boolean favorited) {
+}
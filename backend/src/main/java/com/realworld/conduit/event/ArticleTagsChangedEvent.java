@@ -0,0 +1,9 @@
+package com.realworld.conduit.event;
+
+import java.util.List;
+
+/**
+ * 아티클 태그 연결 변경 이벤트 (추가/제거된 태그 이름, 인기 태그 집계용)
+ */
+public record ArticleTagsChangedEvent(Long articleId, List<String> addedTags, List<String> removedTags) {
+}
@@ -0,0 +1,7 @@
+package com.realworld.conduit.event;
+
+/**
+ * 일괄 가져오기 완료 이벤트 (개별 생성 이벤트 대신 파생 데이터를 한 번에 갱신)
+ */
+public record ArticlesImportedEvent(int importedCount) {
+}
@@ -0,0 +1,9 @@
+package com.realworld.conduit.event;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기 수 증감분이 articles.favorites_count에 반영된 아티클 slug 목록 (캐시 무효화용)
+ */
+public record FavoritesCountsFlushedEvent(List<String> slugs) {
+}
@@ -0,0 +1,7 @@
+package com.realworld.conduit.event;
+
+/**
+ * 팔로우 이벤트 (타임라인 백필용)
+ */
+public record UserFollowedEvent(Long followerId, Long followingId) {
+}
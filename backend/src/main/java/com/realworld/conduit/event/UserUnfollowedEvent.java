@@ -0,0 +1,7 @@
+package com.realworld.conduit.event;
+
+/**
+ * 언팔로우 이벤트 (타임라인 정리용)
+ */
+public record UserUnfollowedEvent(Long followerId, Long followingId) {
+}
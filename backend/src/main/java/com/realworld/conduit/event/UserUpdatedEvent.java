@@ -0,0 +1,7 @@
+package com.realworld.conduit.event;
+
+/**
+ * 프로필 수정 이벤트 (아티클에 함께 저장/캐시된 작성자 정보 갱신용)
+ */
+public record UserUpdatedEvent(Long userId, String username) {
+}
@@ -0,0 +1,163 @@
+package com.realworld.conduit.filter;
+
+import com.realworld.conduit.cache.ResponseBytesCache;
+import com.realworld.conduit.cache.ResponseBytesCache.CachedResponse;
+import com.realworld.conduit.util.ETags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 비로그인 사용자의 아티클 상세/목록 조회를 직렬화된 바이트로 응답
+ *
+ * 보안 필터 체인 뒤에서 동작하므로 CORS, 인가 처리는 그대로 적용됨.
+ * 미스이면 컨트롤러 응답 바이트를 캡처해 저장하고, 적중이면 컨트롤러를 거치지 않고
+ * 저장된 바이트(Accept-Encoding이 gzip을 q>0으로 허용하면 압축본)를 그대로 씀.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnonymousResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String ARTICLES_PATH = "/api/articles";
+    private static final Set<String> RESERVED_SEGMENTS = Set.of("feed", "search");
+
+    private final ResponseBytesCache responseBytesCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || cacheKey(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        if (!isAnonymous()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = responseBytesCache.get(key);
+        if (cached != null) {
+            writeCached(request, response, cached);
+            return;
+        }
+
+        long generation = responseBytesCache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && contentType != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            responseBytesCache.put(key, generation, wrapper.getContentAsByteArray(), contentType,
+                    wrapper.getHeader(HttpHeaders.ETAG));
+        }
+        wrapper.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        wrapper.copyBodyToResponse();
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response, CachedResponse cached)
+            throws IOException {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cached.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, cached.etag());
+            if (ETags.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+
+        byte[] body = cached.body();
+        if (acceptsGzip(Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING)))) {
+            body = cached.gzippedBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Accept-Encoding 값들을 "코딩;q=값" 항목으로 나눠 gzip의 q값이 0보다 큰지 판단.
+     * gzip 항목이 없으면 "*" 항목의 q값을 따르고, q값을 해석할 수 없는 항목은 허용하지 않은 것으로 봄.
+     */
+    static boolean acceptsGzip(List<String> headerValues) {
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String headerValue : headerValues) {
+            for (String entry : headerValue.split(",")) {
+                String[] parts = entry.split(";");
+                String coding = parts[0].strip();
+                double quality = quality(parts);
+                if (coding.equalsIgnoreCase("gzip")) {
+                    gzipQuality = quality;
+                } else if (coding.equals("*")) {
+                    wildcardQuality = quality;
+                }
+            }
+        }
+        Double effective = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return effective != null && effective > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].strip();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).strip());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * GET /api/articles 와 GET /api/articles/{slug} 만 캐시 대상 (feed, search 제외)
+     */
+    private static String cacheKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals(ARTICLES_PATH)) {
+            return ResponseBytesCache.listKey(request.getQueryString());
+        }
+        if (path.startsWith(ARTICLES_PATH + "/")) {
+            String slug = path.substring(ARTICLES_PATH.length() + 1);
+            if (!slug.isEmpty() && slug.indexOf('/') < 0 && !RESERVED_SEGMENTS.contains(slug)) {
+                return ResponseBytesCache.articleKey(UriUtils.decode(slug, StandardCharsets.UTF_8));
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null
+                || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated();
+    }
+}
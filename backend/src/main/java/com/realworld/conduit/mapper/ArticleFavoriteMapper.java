@@ -4,14 +4,20 @@ import com.realworld.conduit.model.ArticleFavorite;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface ArticleFavoriteMapper {
     
-    void insertFavorite(ArticleFavorite favorite);
+    // 영향받은 행 수 반환 (favorites_count 증감 여부 판단용), 이미 즐겨찾기한 경우 0
+    int insertFavorite(ArticleFavorite favorite);
     
-    void deleteFavorite(@Param("articleId") Long articleId, @Param("userId") Long userId);
+    int deleteFavorite(@Param("articleId") Long articleId, @Param("userId") Long userId);
     
     boolean isFavorited(@Param("articleId") Long articleId, @Param("userId") Long userId);
     
-    int countFavorites(@Param("articleId") Long articleId);
+    // 사용자가 즐겨찾기한 전체 아티클 id (즐겨찾기 비트맵 로드용)
+    List<Long> findArticleIdsByUserId(@Param("userId") Long userId);
+    
+    List<Long> findFavoritedArticleIds(@Param("userEmail") String userEmail, @Param("articleIds") List<Long> articleIds);
 }
\ No newline at end of file
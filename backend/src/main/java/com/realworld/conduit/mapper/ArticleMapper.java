@@ -1,10 +1,16 @@
 package com.realworld.conduit.mapper;
 
 import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.ArticleExportRow;
+import com.realworld.conduit.model.SlugSuffix;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface ArticleMapper {
@@ -19,11 +25,54 @@ public interface ArticleMapper {
     
     List<Article> findArticlesByTag(@Param("tag") String tag, @Param("offset") int offset, @Param("limit") int limit);
     
+    // keyset 페이지네이션: (createdAt, id) 커서 이후의 아티클 조회
+    List<Article> findArticlesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("limit") int limit);
+    
+    List<Article> findArticlesByAuthorBefore(@Param("authorUsername") String authorUsername, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("limit") int limit);
+    
+    List<Article> findArticlesByTagBefore(@Param("tag") String tag, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("limit") int limit);
+    
+    // 본문 포함 keyset 조회 (검색 색인 재구축용, 목록 조회는 요약 프로젝션 사용)
+    List<Article> findArticleDetailsBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("limit") int limit);
+    
+    // 작성자별 최신 perAuthorLimit개 아티클의 id, author_id, created_at (작성자, 최신순 정렬)
+    List<Article> findRecentArticleKeysByAuthors(@Param("authorIds") List<Long> authorIds, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("perAuthorLimit") int perAuthorLimit);
+    
+    List<Article> findSummariesByIds(@Param("ids") List<Long> ids);
+    
+    // id, body만 채워진 Article 목록
+    List<Article> findBodiesByIds(@Param("ids") List<Long> ids);
+    
     void updateArticle(Article article);
     
     void deleteBySlug(@Param("slug") String slug);
     
-    boolean existsBySlug(@Param("slug") String slug);
+    // 기본 slug의 최대 숫자 접미사 (기본 slug만 존재하면 0, 없으면 -1)
+    long findMaxSlugSuffix(@Param("baseSlug") String baseSlug);
+    
+    // 일괄 가져오기용: 기본 slug별 최대 숫자 접미사를 한 번에 조회
+    List<SlugSuffix> findMaxSlugSuffixes(@Param("baseSlugs") Collection<String> baseSlugs);
+    
+    // 일괄 가져오기용: slug로 id만 조회
+    List<Article> findIdsBySlugs(@Param("slugs") List<String> slugs);
+    
+    // 내보내기용: 아티클-댓글 조인 행을 (아티클 id, 댓글 id) 순서로 스트리밍 (트랜잭션 안에서만 사용)
+    Cursor<ArticleExportRow> streamArticlesWithComments();
+    
+    // 즐겨찾기 수 비정규화 컬럼 증감
+    void updateFavoritesCount(@Param("articleId") Long articleId, @Param("delta") int delta);
+    
+    // 여러 아티클의 favorites_count 증감분을 한 번에 반영 (아티클 id -> 증감분)
+    int addFavoritesCounts(@Param("deltas") Map<Long, Long> deltas);
+    
+    // [fromId, toId) 구간의 favorites_count 재계산, 보정된 행 수 반환
+    int reconcileFavoritesCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+    
+    long findMaxArticleId();
     
     int countAllArticles();
+    
+    int countArticlesByAuthor(@Param("authorUsername") String authorUsername);
+    
+    int countArticlesByTag(@Param("tag") String tag);
 }
\ No newline at end of file
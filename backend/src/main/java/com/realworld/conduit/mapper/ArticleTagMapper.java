@@ -11,9 +11,17 @@ public interface ArticleTagMapper {
     
     void insertArticleTag(ArticleTag articleTag);
     
+    // 아티클의 태그 연결을 한 번에 삽입
+    void insertArticleTags(@Param("articleId") Long articleId, @Param("tagIds") List<Long> tagIds);
+    
     void deleteArticleTag(@Param("articleId") Long articleId, @Param("tagId") Long tagId);
     
+    void deleteArticleTagsByArticleId(@Param("articleId") Long articleId);
+    
     List<ArticleTag> findArticleTagsByArticleId(@Param("articleId") Long articleId);
     
     List<ArticleTag> findArticleTagsByTagId(@Param("tagId") Long tagId);
+    
+    // 여러 아티클의 태그를 태그 이름과 함께 한 번에 조회
+    List<ArticleTag> findArticleTagsByArticleIds(@Param("articleIds") List<Long> articleIds);
 }
\ No newline at end of file
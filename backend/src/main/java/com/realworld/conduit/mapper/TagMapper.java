@@ -1,6 +1,7 @@
 package com.realworld.conduit.mapper;
 
 import com.realworld.conduit.model.Tag;
+import com.realworld.conduit.model.TagCount;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -11,9 +12,17 @@ public interface TagMapper {
     
     void insertTag(Tag tag);
     
+    // 여러 태그를 한 번에 삽입 (이미 존재하는 태그는 무시)
+    void insertTags(@Param("names") List<String> names);
+    
     Tag findByName(@Param("name") String name);
     
+    List<Tag> findByNames(@Param("names") List<String> names);
+    
     List<Tag> findAllTags();
     
     List<Tag> findTagsByArticleId(@Param("articleId") Long articleId);
+    
+    // 태그별 사용 아티클 수 (사용되지 않는 태그 제외)
+    List<TagCount> countTagUsage();
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.realworld.conduit.mapper;
+
+import com.realworld.conduit.model.Article;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface TimelineMapper {
+    
+    // 작성자의 모든 팔로워 타임라인에 아티클 추가 (INSERT ... SELECT 한 번)
+    int fanOutToFollowers(@Param("articleId") Long articleId, @Param("authorId") Long authorId, @Param("createdAt") LocalDateTime createdAt);
+    
+    // 새로 팔로우한 작성자의 최근 아티클을 팔로워 타임라인에 채움
+    int backfillFromAuthor(@Param("userId") Long userId, @Param("authorId") Long authorId, @Param("limit") int limit);
+    
+    // 언팔로우한 작성자의 아티클을 타임라인에서 제거
+    int deleteAuthorFromTimeline(@Param("userId") Long userId, @Param("authorId") Long authorId);
+    
+    // 최신 maxSize개 다음 행의 article_id(id), created_at (없으면 null: 상한 이하)
+    Article findTimelineCutoff(@Param("userId") Long userId, @Param("maxSize") int maxSize);
+    
+    // 기준 행과 그보다 오래된 타임라인 행 삭제
+    int deleteTimelineUpTo(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("articleId") Long articleId);
+    
+    // fan-out 대신 조회 시 병합할 작성자로 등록
+    void insertPullAuthor(@Param("authorId") Long authorId);
+    
+    // 타임라인 조회 (createdAt/id가 null이면 첫 페이지)
+    List<Article> findTimeline(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("limit") int limit);
+    
+    // 팔로우 중인 병합 대상 작성자들의 최근 아티클
+    List<Article> findPullAuthorArticles(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("limit") int limit);
+}
@@ -9,11 +9,11 @@ import java.util.List;
 @Mapper
 public interface UserFollowMapper {
     
-    // 팔로우 관계 생성
-    void insertFollow(UserFollow userFollow);
+    // 팔로우 관계 생성, 이미 팔로우 중이면 0 반환
+    int insertFollow(UserFollow userFollow);
     
-    // 팔로우 관계 삭제
-    void deleteFollow(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+    // 팔로우 관계 삭제, 팔로우 중이 아니었으면 0 반환
+    int deleteFollow(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
     
     // 팔로우 여부 확인
     boolean isFollowing(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
@@ -11,6 +11,7 @@ public class Article {
     private Long authorId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private int favoritesCount;
     
     // User 정보를 담는 필드 (조인용)
     private String authorUsername;
@@ -92,6 +93,14 @@ public class Article {
         this.updatedAt = updatedAt;
     }
     
+    public int getFavoritesCount() {
+        return favoritesCount;
+    }
+    
+    public void setFavoritesCount(int favoritesCount) {
+        this.favoritesCount = favoritesCount;
+    }
+    
     public String getAuthorUsername() {
         return authorUsername;
     }
@@ -0,0 +1,139 @@
+package com.realworld.conduit.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 행. 아티클마다 아티클 행(comment* 가 null) 하나가 먼저 오고 이어서 댓글 행(id와 comment*만 채움)이 옴
+ *
+ * tagList는 태그 이름을 0x1F로 이어 붙인 문자열.
+ */
+public class ArticleExportRow {
+    private Long id;
+    private String slug;
+    private String title;
+    private String description;
+    private String body;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private int favoritesCount;
+    private String authorUsername;
+    private String tagList;
+    private Long commentId;
+    private String commentBody;
+    private LocalDateTime commentCreatedAt;
+    private String commentAuthorUsername;
+    
+    public ArticleExportRow() {}
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getSlug() {
+        return slug;
+    }
+    
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public String getBody() {
+        return body;
+    }
+    
+    public void setBody(String body) {
+        this.body = body;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public int getFavoritesCount() {
+        return favoritesCount;
+    }
+    
+    public void setFavoritesCount(int favoritesCount) {
+        this.favoritesCount = favoritesCount;
+    }
+    
+    public String getAuthorUsername() {
+        return authorUsername;
+    }
+    
+    public void setAuthorUsername(String authorUsername) {
+        this.authorUsername = authorUsername;
+    }
+    
+    public String getTagList() {
+        return tagList;
+    }
+    
+    public void setTagList(String tagList) {
+        this.tagList = tagList;
+    }
+    
+    public Long getCommentId() {
+        return commentId;
+    }
+    
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+    
+    public String getCommentBody() {
+        return commentBody;
+    }
+    
+    public void setCommentBody(String commentBody) {
+        this.commentBody = commentBody;
+    }
+    
+    public LocalDateTime getCommentCreatedAt() {
+        return commentCreatedAt;
+    }
+    
+    public void setCommentCreatedAt(LocalDateTime commentCreatedAt) {
+        this.commentCreatedAt = commentCreatedAt;
+    }
+    
+    public String getCommentAuthorUsername() {
+        return commentAuthorUsername;
+    }
+    
+    public void setCommentAuthorUsername(String commentAuthorUsername) {
+        this.commentAuthorUsername = commentAuthorUsername;
+    }
+}
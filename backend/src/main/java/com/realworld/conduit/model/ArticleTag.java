@@ -8,6 +8,9 @@ public class ArticleTag {
     private Long tagId;
     private LocalDateTime createdAt;
     
+    // 태그 이름 (조인용)
+    private String tagName;
+    
     public ArticleTag() {}
     
     public ArticleTag(Long articleId, Long tagId) {
@@ -47,4 +50,12 @@ public class ArticleTag {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+    
+    public String getTagName() {
+        return tagName;
+    }
+    
+    public void setTagName(String tagName) {
+        this.tagName = tagName;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.realworld.conduit.model;
+
+/**
+ * 기본 slug별 사용 중인 최대 숫자 접미사 (기본 slug만 있으면 0, 없으면 -1)
+ */
+public class SlugSuffix {
+    private String baseSlug;
+    private long maxSuffix;
+    
+    public SlugSuffix() {}
+    
+    public SlugSuffix(String baseSlug, long maxSuffix) {
+        this.baseSlug = baseSlug;
+        this.maxSuffix = maxSuffix;
+    }
+    
+    public String getBaseSlug() {
+        return baseSlug;
+    }
+    
+    public void setBaseSlug(String baseSlug) {
+        this.baseSlug = baseSlug;
+    }
+    
+    public long getMaxSuffix() {
+        return maxSuffix;
+    }
+    
+    public void setMaxSuffix(long maxSuffix) {
+        this.maxSuffix = maxSuffix;
+    }
+}
@@ -0,0 +1,214 @@
+package com.realworld.conduit.search;
+
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.ArticleUpdatedEvent;
+import com.realworld.conduit.event.ArticlesImportedEvent;
+import com.realworld.conduit.event.UserUpdatedEvent;
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.model.Article;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 아티클 전문 검색 서비스
+ *
+ * 메모리 역색인으로 검색하므로 질의 시 DB를 조회하지 않음.
+ * 아티클 생성/수정/삭제 이벤트를 커밋 후 받아 색인을 증분 갱신하고 (프로필 수정 시 저장된 작성자 이름 포함),
+ * 애플리케이션 시작 시(conduit.startup-jobs.enabled) 백그라운드에서 전체 아티클로 색인을 재구축함.
+ */
+@Service
+@Slf4j
+public class ArticleSearchService {
+    
+    // 필드 가중치: 제목 > 설명 > 본문
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+    
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final double REBUILD_DELETED_RATIO = 0.3;
+    private static final int REBUILD_MIN_DELETED = 1000;
+    private static final LocalDateTime REBUILD_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    
+    private final ArticleMapper articleMapper;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final Object updateLock = new Object();
+    private volatile InvertedIndex index = new InvertedIndex();
+    // 재구축 중 들어온 증분 갱신 (재구축 완료 후 새 색인에 재적용)
+    private List<Consumer<InvertedIndex>> pendingUpdates;
+    
+    public ArticleSearchService(ArticleMapper articleMapper) {
+        this.articleMapper = articleMapper;
+    }
+    
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        return index.search(terms, offset, limit);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleCreated(ArticleCreatedEvent event) {
+        AnalyzedArticle analyzed = analyze(event.article());
+        apply(target -> target.put(analyzed.document(), analyzed.termFrequencies(), analyzed.length()));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleUpdated(ArticleUpdatedEvent event) {
+        AnalyzedArticle analyzed = analyze(event.article());
+        apply(target -> target.put(analyzed.document(), analyzed.termFrequencies(), analyzed.length()));
+        rebuildIfFragmented();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        Long articleId = event.article().getId();
+        apply(target -> target.remove(articleId));
+        rebuildIfFragmented();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        apply(target -> target.updateAuthorUsername(event.userId(), event.username()));
+    }
+    
+    // 일괄 가져오기는 건별 색인 대신 전체 재구축
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        rebuildExecutor.submit(this::rebuild);
+    }
+    
+    /**
+     * 백그라운드 스레드에서 {@link #rebuild()} 실행 (시작 시 StartupWarmupRunner가 호출)
+     */
+    public void rebuildInBackground() {
+        rebuildExecutor.submit(this::rebuild);
+    }
+    
+    /**
+     * 전체 아티클로 색인을 새로 구축한 뒤 교체.
+     * DB에서 다음 페이지를 읽는 동안 이전 페이지의 토큰화를 병렬로 수행함.
+     */
+    public void rebuild() {
+        synchronized (updateLock) {
+            if (pendingUpdates != null) {
+                return; // 이미 재구축 중
+            }
+            pendingUpdates = new ArrayList<>();
+        }
+        
+        long startedAt = System.currentTimeMillis();
+        try {
+            InvertedIndex rebuilt = new InvertedIndex();
+            CompletableFuture<Void> indexed = CompletableFuture.completedFuture(null);
+            
+            LocalDateTime createdAt = REBUILD_START;
+            Long id = Long.MAX_VALUE;
+            while (true) {
+                List<Article> page = articleMapper.findArticleDetailsBefore(createdAt, id, REBUILD_PAGE_SIZE);
+                if (page.isEmpty()) {
+                    break;
+                }
+                
+                CompletableFuture<List<AnalyzedArticle>> analyzed = CompletableFuture.supplyAsync(
+                        () -> page.parallelStream().map(this::analyze).toList());
+                indexed = indexed.thenCombine(analyzed, (ignored, articles) -> {
+                    articles.forEach(a -> rebuilt.put(a.document(), a.termFrequencies(), a.length()));
+                    return null;
+                });
+                
+                Article last = page.get(page.size() - 1);
+                createdAt = last.getCreatedAt();
+                id = last.getId();
+                if (page.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+            }
+            indexed.join();
+            
+            synchronized (updateLock) {
+                pendingUpdates.forEach(update -> update.accept(rebuilt));
+                index = rebuilt;
+            }
+            log.info("검색 색인 재구축 완료: documents={}, elapsed={}ms",
+                    rebuilt.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("검색 색인 재구축 실패", e);
+        } finally {
+            synchronized (updateLock) {
+                pendingUpdates = null;
+            }
+        }
+    }
+    
+    public int indexedCount() {
+        return index.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+    
+    private void apply(Consumer<InvertedIndex> update) {
+        synchronized (updateLock) {
+            update.accept(index);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        }
+    }
+    
+    private void rebuildIfFragmented() {
+        InvertedIndex current = index;
+        if (current.deletedCount() >= REBUILD_MIN_DELETED && current.deletedRatio() > REBUILD_DELETED_RATIO) {
+            rebuildExecutor.submit(this::rebuild);
+        }
+    }
+    
+    private AnalyzedArticle analyze(Article article) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = addField(termFrequencies, article.getTitle(), TITLE_WEIGHT)
+                + addField(termFrequencies, article.getDescription(), DESCRIPTION_WEIGHT)
+                + addField(termFrequencies, article.getBody(), BODY_WEIGHT);
+        
+        SearchDocument document = new SearchDocument(
+                article.getId(),
+                article.getSlug(),
+                article.getTitle(),
+                article.getDescription(),
+                article.getAuthorId(),
+                article.getAuthorUsername(),
+                article.getCreatedAt());
+        return new AnalyzedArticle(document, termFrequencies, length);
+    }
+    
+    private int addField(Map<String, Integer> termFrequencies, String text, int weight) {
+        List<String> tokens = SearchTokenizer.tokenize(text);
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+    
+    private record AnalyzedArticle(SearchDocument document, Map<String, Integer> termFrequencies, int length) {
+    }
+}
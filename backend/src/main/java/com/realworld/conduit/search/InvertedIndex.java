@@ -0,0 +1,207 @@
+package com.realworld.conduit.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 + BM25 랭킹
+ *
+ * - 문서는 내부 문서 번호(0부터 증가)로 관리하며, 수정은 기존 번호 삭제 표시 후 새 번호로 추가
+ * - 삭제된 문서는 BitSet으로 표시하고 검색 시 건너뜀 (재구축 시 정리)
+ * - 읽기/쓰기는 ReadWriteLock으로 보호: 검색은 동시에, 갱신은 단독으로 수행
+ */
+public class InvertedIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final List<SearchDocument> documents = new ArrayList<>();
+    private final Map<Long, Integer> docByArticleId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private int[] docLengths = new int[16];
+    private long totalLength;
+    private int liveCount;
+    
+    /**
+     * 문서를 추가 (이미 색인된 아티클이면 기존 문서를 대체)
+     *
+     * @param termFrequencies 용어별 (필드 가중치가 반영된) 빈도
+     * @param length          문서 길이 (가중치 반영 토큰 수)
+     */
+    public void put(SearchDocument document, Map<String, Integer> termFrequencies, int length) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.articleId());
+            
+            int doc = documents.size();
+            documents.add(document);
+            if (doc >= docLengths.length) {
+                docLengths = Arrays.copyOf(docLengths, docLengths.length * 2);
+            }
+            docLengths[doc] = length;
+            totalLength += length;
+            liveCount++;
+            docByArticleId.put(document.articleId(), doc);
+            
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList())
+                        .add(doc, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 작성자 이름 변경 반영. 색인 용어에는 포함되지 않으므로 저장된 문서 필드만 교체함
+     * (문서 번호와 게시 목록은 그대로이므로 삭제 표시가 늘지 않음)
+     */
+    public void updateAuthorUsername(Long authorId, String username) {
+        lock.writeLock().lock();
+        try {
+            for (int doc = 0; doc < documents.size(); doc++) {
+                SearchDocument document = documents.get(doc);
+                if (document != null && authorId.equals(document.authorId())) {
+                    documents.set(doc, document.withAuthorUsername(username));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void removeInternal(Long articleId) {
+        Integer doc = docByArticleId.remove(articleId);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        documents.set(doc, null);
+        totalLength -= docLengths[doc];
+        liveCount--;
+    }
+    
+    public SearchResult search(List<String> queryTerms, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (queryTerms.isEmpty() || liveCount == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            
+            double averageLength = (double) totalLength / liveCount;
+            float[] scores = new float[documents.size()];
+            BitSet matched = new BitSet(documents.size());
+            
+            for (String term : queryTerms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                // df에는 삭제 표시된 문서가 포함될 수 있으나 재구축 전까지의 근사치로 허용
+                int documentFrequency = Math.min(postingList.size(), liveCount);
+                double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                
+                PostingList.Cursor cursor = postingList.cursor();
+                while (cursor.next()) {
+                    int doc = cursor.doc();
+                    if (deleted.get(doc)) {
+                        continue;
+                    }
+                    int tf = cursor.tf();
+                    double norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    scores[doc] += (float) (idf * tf * (K1 + 1) / (tf + norm));
+                    matched.set(doc);
+                }
+            }
+            
+            return topHits(scores, matched, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private SearchResult topHits(float[] scores, BitSet matched, int offset, int limit) {
+        int wanted = offset + limit;
+        // 점수 오름차순 min-heap, 동점이면 최신 문서(큰 번호) 우선
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, wanted),
+                (a, b) -> scores[a] != scores[b] ? Float.compare(scores[a], scores[b]) : Integer.compare(a, b));
+        
+        int totalHits = 0;
+        for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+            totalHits++;
+            if (wanted <= 0) {
+                continue;
+            }
+            if (heap.size() < wanted) {
+                heap.offer(doc);
+            } else if (heap.comparator().compare(doc, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(doc);
+            }
+        }
+        
+        List<SearchHit> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            int doc = heap.poll();
+            ranked.add(new SearchHit(documents.get(doc), scores[doc]));
+        }
+        Collections.reverse(ranked);
+        
+        List<SearchHit> page = offset >= ranked.size()
+                ? List.of()
+                : ranked.subList(offset, ranked.size());
+        return new SearchResult(page, totalHits);
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 삭제 표시만 되고 아직 정리되지 않은 문서 수 (재구축 판단용)
+     */
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size() - liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 삭제 표시된 문서 비율 (재구축 판단용)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return documents.isEmpty() ? 0 : (double) (documents.size() - liveCount) / documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.realworld.conduit.search;
+
+import java.util.Arrays;
+
+/**
+ * 단일 용어의 포스팅 목록 (문서 번호 오름차순, append-only)
+ *
+ * 문서 번호는 직전 문서와의 차이(gap)로 저장하고, gap과 빈도(tf)를 int 하나에 패킹:
+ *   [gap (상위 23비트)][tf (하위 8비트)]
+ * gap 또는 tf가 범위를 넘으면 이스케이프 워드(하위 8비트 = 0xFF, gap 필드 = 0) 뒤에
+ * gap, tf를 원본 int 두 개로 기록. gap은 항상 1 이상이므로 이스케이프 워드와 구분됨.
+ */
+final class PostingList {
+    
+    private static final int TF_BITS = 8;
+    private static final int TF_MASK = (1 << TF_BITS) - 1;
+    private static final int ESCAPE = TF_MASK;
+    private static final int MAX_PACKED_GAP = (1 << (31 - TF_BITS)) - 1;
+    
+    private int[] data = new int[4];
+    private int length;
+    private int size;
+    private int lastDoc = -1;
+    
+    void add(int doc, int tf) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("문서 번호는 오름차순으로 추가되어야 합니다.");
+        }
+        int gap = doc - lastDoc;
+        if (gap <= MAX_PACKED_GAP && tf < ESCAPE) {
+            ensureCapacity(1);
+            data[length++] = (gap << TF_BITS) | tf;
+        } else {
+            ensureCapacity(3);
+            data[length++] = ESCAPE;
+            data[length++] = gap;
+            data[length++] = tf;
+        }
+        lastDoc = doc;
+        size++;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    Cursor cursor() {
+        return new Cursor();
+    }
+    
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+    
+    /**
+     * 포스팅 순차 디코더
+     */
+    final class Cursor {
+        private int position;
+        private int doc = -1;
+        private int tf;
+        
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            int word = data[position++];
+            if (word == ESCAPE) {
+                doc += data[position++];
+                tf = data[position++];
+            } else {
+                doc += word >>> TF_BITS;
+                tf = word & TF_MASK;
+            }
+            return true;
+        }
+        
+        int doc() {
+            return doc;
+        }
+        
+        int tf() {
+            return tf;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.realworld.conduit.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과를 DB 조회 없이 응답하기 위해 인덱스에 함께 저장하는 아티클 요약 필드
+ */
+public record SearchDocument(
+        Long articleId,
+        String slug,
+        String title,
+        String description,
+        Long authorId,
+        String authorUsername,
+        LocalDateTime createdAt) {
+    
+    public SearchDocument withAuthorUsername(String username) {
+        return new SearchDocument(articleId, slug, title, description, authorId, username, createdAt);
+    }
+}
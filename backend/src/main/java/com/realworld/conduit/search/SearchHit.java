@@ -0,0 +1,7 @@
+package com.realworld.conduit.search;
+
+/**
+ * 검색 결과 한 건 (BM25 점수 포함)
+ */
+public record SearchHit(SearchDocument document, double score) {
+}
@@ -0,0 +1,9 @@
+package com.realworld.conduit.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지와 전체 일치 문서 수
+ */
+public record SearchResult(List<SearchHit> hits, int totalHits) {
+}
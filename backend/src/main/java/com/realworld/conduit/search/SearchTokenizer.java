@@ -0,0 +1,65 @@
+package com.realworld.conduit.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * - 영문/숫자 등: 글자·숫자 연속 구간을 하나의 토큰으로 (소문자 변환)
+ * - 한글: 형태소 분석 없이 음절 bigram으로 분해 (한 글자 구간은 unigram)
+ *   예) "자바스크립트" → "자바", "바스", "스크", "크립", "립트"
+ */
+public final class SearchTokenizer {
+    
+    private static final int MAX_TOKEN_LENGTH = 64;
+    
+    private SearchTokenizer() {}
+    
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                addHangulTokens(text, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isHangul(text.charAt(i))) {
+                    i++;
+                }
+                if (i - start <= MAX_TOKEN_LENGTH) {
+                    tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+    
+    private static void addHangulTokens(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+    
+    static boolean isHangul(char c) {
+        return (c >= '\uAC00' && c <= '\uD7A3')   // 완성형 음절 (가-힣)
+                || (c >= '\u1100' && c <= '\u11FF') // 자모
+                || (c >= '\u3130' && c <= '\u318F'); // 호환 자모
+    }
+}
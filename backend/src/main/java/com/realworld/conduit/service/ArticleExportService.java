@@ -0,0 +1,120 @@
+package com.realworld.conduit.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.model.ArticleExportRow;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 전체 아티클(댓글 포함) NDJSON 내보내기
+ *
+ * MyBatis Cursor로 행을 fetchSize 단위로 받아 Jackson 스트리밍 생성기로 바로 출력하므로
+ * 힙에는 현재 행과 출력 버퍼만 남음. 행은 아티클 id 순서로 아티클 행 다음에 그 댓글 행들이 오므로
+ * 아티클 행에서 이전 줄을 닫고 새 줄을 시작함. Cursor는 트랜잭션(SqlSession)이 열려 있는 동안만 유효함.
+ */
+@Service
+@Slf4j
+public class ArticleExportService {
+
+    private static final char TAG_SEPARATOR = 0x1F;
+
+    private final ArticleMapper articleMapper;
+    private final JsonFactory jsonFactory;
+
+    @Autowired
+    public ArticleExportService(ArticleMapper articleMapper, ObjectMapper objectMapper) {
+        this.articleMapper = articleMapper;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 한 줄에 아티클 하나씩 out에 씀 (out은 닫지 않음)
+     *
+     * @return 내보낸 아티클 수
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long exported = 0;
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(out);
+             Cursor<ArticleExportRow> rows = articleMapper.streamArticlesWithComments()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 도중 실패 시 마지막 줄을 자동으로 닫아 완전한 레코드처럼 보이지 않게 함
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.setRootValueSeparator(null);
+
+            Long currentId = null;
+            for (ArticleExportRow row : rows) {
+                if (row.getCommentId() == null) {
+                    if (currentId != null) {
+                        endArticle(generator);
+                    }
+                    startArticle(generator, row);
+                    currentId = row.getId();
+                    exported++;
+                } else if (row.getId().equals(currentId)) {
+                    writeComment(generator, row);
+                }
+            }
+            if (currentId != null) {
+                endArticle(generator);
+            }
+        }
+
+        log.info("아티클 내보내기 완료: {}건, {}ms", exported, (System.nanoTime() - startedAt) / 1_000_000);
+        return exported;
+    }
+
+    private static void startArticle(JsonGenerator generator, ArticleExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getId());
+        generator.writeStringField("slug", row.getSlug());
+        generator.writeStringField("title", row.getTitle());
+        generator.writeStringField("description", row.getDescription());
+        generator.writeStringField("body", row.getBody());
+        generator.writeStringField("author", row.getAuthorUsername());
+        generator.writeArrayFieldStart("tagList");
+        if (row.getTagList() != null) {
+            for (String tag : row.getTagList().split(String.valueOf(TAG_SEPARATOR))) {
+                generator.writeString(tag);
+            }
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("favoritesCount", row.getFavoritesCount());
+        generator.writeStringField("createdAt", format(row.getCreatedAt()));
+        generator.writeStringField("updatedAt", format(row.getUpdatedAt()));
+        generator.writeArrayFieldStart("comments");
+    }
+
+    private static void writeComment(JsonGenerator generator, ArticleExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getCommentId());
+        generator.writeStringField("body", row.getCommentBody());
+        generator.writeStringField("author", row.getCommentAuthorUsername());
+        generator.writeStringField("createdAt", format(row.getCommentCreatedAt()));
+        generator.writeEndObject();
+    }
+
+    private static void endArticle(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    // API 응답(Jackson JavaTimeModule)과 같은 ISO-8601 형식
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime) : null;
+    }
+}
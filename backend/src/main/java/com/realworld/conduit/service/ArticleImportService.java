@@ -0,0 +1,181 @@
+package com.realworld.conduit.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.realworld.conduit.dto.ArticleImportRequest;
+import com.realworld.conduit.dto.ArticleImportResult;
+import com.realworld.conduit.event.ArticlesImportedEvent;
+import com.realworld.conduit.mapper.UserMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.User;
+import com.realworld.conduit.service.ArticleImportWriter.ImportItem;
+import com.realworld.conduit.util.SlugUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON 아티클 일괄 가져오기
+ *
+ * 요청 본문을 한 줄(아티클 JSON 하나)씩 읽어 chunkSize개가 모이면 {@link ArticleImportWriter}로
+ * 청크 단위 트랜잭션 저장을 수행하므로 메모리 사용량은 청크 크기로 제한됨.
+ * 필수 항목이 빠지거나 작성/수정 시각 형식이 잘못된 줄은 건너뛰고, slug 경합으로 실패한 청크는 한 번 재시도함.
+ * 원본 작성 시각이 없으면 가져온 시각(수정 시각만 있으면 그 값)을, 수정 시각이 없으면 작성 시각을 사용함.
+ * 개별 생성 이벤트 대신 완료 시 {@link ArticlesImportedEvent}를 한 번 발행함.
+ */
+@Service
+@Slf4j
+public class ArticleImportService {
+    
+    private static final int MAX_CHUNK_ATTEMPTS = 2;
+    
+    private final UserMapper userMapper;
+    private final ArticleImportWriter articleImportWriter;
+    private final ObjectReader lineReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    
+    @Autowired
+    public ArticleImportService(UserMapper userMapper,
+                                ArticleImportWriter articleImportWriter,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${conduit.import.chunk-size:1000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("청크 크기는 1 이상이어야 합니다.");
+        }
+        this.userMapper = userMapper;
+        this.articleImportWriter = articleImportWriter;
+        this.lineReader = objectMapper.readerFor(ArticleImportRequest.class);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+    
+    public ArticleImportResult importArticles(InputStream input, String userEmail) throws IOException {
+        User user = userMapper.findByEmail(userEmail);
+        if (user == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        
+        long startedAt = System.nanoTime();
+        ArticleImportResult result = new ArticleImportResult();
+        List<ImportItem> chunk = new ArrayList<>(chunkSize);
+        
+        try (MappingIterator<ArticleImportRequest> lines = lineReader.readValues(input)) {
+            try {
+                while (lines.hasNextValue()) {
+                    ArticleImportRequest request = lines.nextValue();
+                    long lineNumber = lines.getParser().currentLocation().getLineNr();
+                    
+                    String error = validate(request);
+                    if (error != null) {
+                        result.reject(lineNumber, error);
+                        continue;
+                    }
+                    
+                    chunk.add(toItem(request, user.getId()));
+                    if (chunk.size() >= chunkSize) {
+                        writeChunk(chunk, result);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // 잘못된 JSON 이후로는 줄 경계를 신뢰할 수 없으므로 읽기를 중단하고 이미 읽은 청크까지만 저장
+                result.abort(e.getLocation() != null ? e.getLocation().getLineNr() : -1,
+                        "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+        writeChunk(chunk, result);
+        
+        if (result.getImported() > 0) {
+            eventPublisher.publishEvent(new ArticlesImportedEvent(result.getImported()));
+        }
+        result.setElapsedMillis((System.nanoTime() - startedAt) / 1_000_000);
+        log.info("아티클 가져오기 완료: 저장 {}건, 거부 {}건, 실패 {}건, {}ms",
+                result.getImported(), result.getRejected(), result.getFailed(), result.getElapsedMillis());
+        return result;
+    }
+    
+    private void writeChunk(List<ImportItem> chunk, ArticleImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        
+        for (int attempt = 1; ; attempt++) {
+            try {
+                result.addImported(articleImportWriter.writeChunk(chunk));
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // 동시 생성과 slug가 겹치면 롤백된 청크의 접미사를 다시 조회해 재시도
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    result.failChunk(chunk.size(), e.getMostSpecificCause().getMessage());
+                    break;
+                }
+            }
+        }
+        log.info("아티클 가져오기 진행: 저장 {}건, 거부 {}건, 실패 {}건",
+                result.getImported(), result.getRejected(), result.getFailed());
+    }
+    
+    private static String validate(ArticleImportRequest request) {
+        if (request == null) {
+            return "빈 줄입니다.";
+        }
+        if (isBlank(request.getTitle())) {
+            return "제목은 필수입니다.";
+        }
+        if (isBlank(request.getDescription())) {
+            return "설명은 필수입니다.";
+        }
+        if (isBlank(request.getBody())) {
+            return "내용은 필수입니다.";
+        }
+        try {
+            LocalDateTime createdAt = parseTimestamp(request.getCreatedAt());
+            LocalDateTime updatedAt = parseTimestamp(request.getUpdatedAt());
+            if (createdAt != null && updatedAt != null && updatedAt.isBefore(createdAt)) {
+                return "수정 시각은 작성 시각보다 앞설 수 없습니다.";
+            }
+        } catch (DateTimeParseException e) {
+            return "작성/수정 시각 형식 오류: " + e.getParsedString();
+        }
+        return null;
+    }
+    
+    // 저장되는 시각과 같은 초 단위로 자름
+    private static LocalDateTime parseTimestamp(String value) {
+        return isBlank(value) ? null : LocalDateTime.parse(value.strip()).truncatedTo(ChronoUnit.SECONDS);
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+    
+    // validate를 통과한 줄만 받으므로 시각 변환은 실패하지 않음
+    private static ImportItem toItem(ArticleImportRequest request, Long authorId) {
+        Article article = new Article(null, request.getTitle(), request.getDescription(), request.getBody(), authorId);
+        LocalDateTime createdAt = parseTimestamp(request.getCreatedAt());
+        LocalDateTime updatedAt = parseTimestamp(request.getUpdatedAt());
+        if (createdAt == null) {
+            // 수정 시각만 있으면 작성 시각이 그보다 늦어지지 않도록 같은 값 사용
+            createdAt = updatedAt != null ? updatedAt : LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        }
+        article.setCreatedAt(createdAt);
+        article.setUpdatedAt(updatedAt != null ? updatedAt : createdAt);
+        return new ImportItem(SlugUtils.generateSlug(request.getTitle()), article,
+                ArticleService.normalizeTags(request.getTagList()));
+    }
+}
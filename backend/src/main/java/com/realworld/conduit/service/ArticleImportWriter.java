@@ -0,0 +1,131 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.mapper.ArticleTagMapper;
+import com.realworld.conduit.mapper.TagMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.SlugSuffix;
+import com.realworld.conduit.model.Tag;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 가져오기 청크 쓰기
+ *
+ * BATCH 실행기 SqlSession으로 아티클/태그 INSERT를 JDBC 배치로 모아 보내고,
+ * 청크마다 하나의 트랜잭션으로 커밋함. 한 트랜잭션 안에서는 실행기 종류를 섞을 수 없으므로
+ * slug 접미사, id 조회도 같은 BATCH 세션의 매퍼로 수행함 (조회 전에 쌓인 배치가 먼저 실행됨).
+ */
+@Component
+public class ArticleImportWriter {
+    
+    /**
+     * 가져올 아티클 한 건 (article.slug는 쓰기 시점에 baseSlug로부터 할당)
+     */
+    public record ImportItem(String baseSlug, Article article, List<String> tagNames) {}
+    
+    private final SqlSessionTemplate batchSession;
+    private final ArticleMapper articleMapper;
+    private final TagMapper tagMapper;
+    private final ArticleTagMapper articleTagMapper;
+    
+    @Autowired
+    public ArticleImportWriter(SqlSessionFactory sqlSessionFactory) {
+        this.batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.articleMapper = batchSession.getMapper(ArticleMapper.class);
+        this.tagMapper = batchSession.getMapper(TagMapper.class);
+        this.articleTagMapper = batchSession.getMapper(ArticleTagMapper.class);
+    }
+    
+    /**
+     * 청크 전체를 한 트랜잭션으로 저장 (slug 충돌 등 실패 시 청크 전체 롤백)
+     *
+     * @return 저장한 아티클 수
+     */
+    @Transactional
+    public int writeChunk(List<ImportItem> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        
+        // 1) 기본 slug별 최대 접미사를 한 번에 조회해 메모리에서 할당
+        Set<String> baseSlugs = items.stream()
+                .map(ImportItem::baseSlug)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Long> maxSuffixes = articleMapper.findMaxSlugSuffixes(baseSlugs).stream()
+                .collect(Collectors.toMap(SlugSuffix::getBaseSlug, SlugSuffix::getMaxSuffix));
+        assignSlugs(items, maxSuffixes);
+        
+        // 2) 아티클 INSERT를 배치로 누적
+        for (ImportItem item : items) {
+            articleMapper.insertArticle(item.article());
+        }
+        
+        // 3) 청크의 모든 태그를 한 번에 등록하고 ID 확인
+        List<String> tagNames = items.stream()
+                .flatMap(item -> item.tagNames().stream())
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, Long> tagIds = new HashMap<>();
+        if (!tagNames.isEmpty()) {
+            tagMapper.insertTags(tagNames);
+            for (Tag tag : tagMapper.findByNames(tagNames)) {
+                tagIds.put(tag.getName(), tag.getId());
+            }
+        }
+        
+        // 4) 생성된 아티클 id를 slug로 한 번에 확인하고 태그 연결을 배치로 누적
+        List<String> slugs = items.stream()
+                .map(item -> item.article().getSlug())
+                .collect(Collectors.toList());
+        Map<String, Long> articleIds = articleMapper.findIdsBySlugs(slugs).stream()
+                .collect(Collectors.toMap(Article::getSlug, Article::getId));
+        for (ImportItem item : items) {
+            Long articleId = articleIds.get(item.article().getSlug());
+            item.article().setId(articleId);
+            if (!item.tagNames().isEmpty()) {
+                List<Long> ids = item.tagNames().stream()
+                        .map(tagIds::get)
+                        .collect(Collectors.toList());
+                articleTagMapper.insertArticleTags(articleId, ids);
+            }
+        }
+        
+        batchSession.flushStatements();
+        return items.size();
+    }
+    
+    /**
+     * 최대 접미사(-1: 미사용, 0: 기본 slug만 사용)에서 이어서 청크 안의 slug를 차례로 할당
+     *
+     * 다른 기본 slug가 만든 slug("a" 두 번째 → "a-1", "A 1" → "a-1")와 겹치면 다음 번호로 넘어감.
+     * 최대 접미사보다 큰 번호는 DB에 없으므로 청크 안에서 이미 할당한 slug만 확인하면 됨.
+     */
+    static void assignSlugs(List<ImportItem> items, Map<String, Long> maxSuffixes) {
+        Map<String, Long> next = new HashMap<>(maxSuffixes);
+        Set<String> assigned = new HashSet<>();
+        for (ImportItem item : items) {
+            String baseSlug = item.baseSlug();
+            long suffix = next.getOrDefault(baseSlug, -1L);
+            String slug;
+            do {
+                suffix++;
+                slug = suffix == 0 ? baseSlug : baseSlug + "-" + suffix;
+            } while (!assigned.add(slug));
+            next.put(baseSlug, suffix);
+            item.article().setSlug(slug);
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package com.realworld.conduit.service;
 
+import com.realworld.conduit.cache.ArticleCache;
+import com.realworld.conduit.cache.ArticleCountCache;
+import com.realworld.conduit.cache.FavoritesBitmapCache;
+import com.realworld.conduit.cache.FavoritesCountBuffer;
 import com.realworld.conduit.dto.ArticleRequest;
 import com.realworld.conduit.dto.ArticleResponse;
+import com.realworld.conduit.dto.ArticleSummaryResponse;
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.ArticleFavoriteChangedEvent;
+import com.realworld.conduit.event.ArticleTagsChangedEvent;
+import com.realworld.conduit.event.ArticleUpdatedEvent;
 import com.realworld.conduit.mapper.ArticleFavoriteMapper;
 import com.realworld.conduit.mapper.ArticleMapper;
 import com.realworld.conduit.mapper.ArticleTagMapper;
@@ -12,12 +22,24 @@ import com.realworld.conduit.model.ArticleFavorite;
 import com.realworld.conduit.model.ArticleTag;
 import com.realworld.conduit.model.Tag;
 import com.realworld.conduit.model.User;
+import com.realworld.conduit.util.ArticleCursor;
 import com.realworld.conduit.util.SlugUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,19 +47,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class ArticleService {
     
+    private static final int MAX_SLUG_ATTEMPTS = 3;
+    
     private final ArticleMapper articleMapper;
     private final ArticleFavoriteMapper articleFavoriteMapper;
     private final ArticleTagMapper articleTagMapper;
     private final TagMapper tagMapper;
     private final UserMapper userMapper;
+    private final ArticleCache articleCache;
+    private final ArticleCountCache articleCountCache;
+    private final FavoritesCountBuffer favoritesCountBuffer;
+    private final FavoritesBitmapCache favoritesBitmapCache;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Autowired
-    public ArticleService(ArticleMapper articleMapper, ArticleFavoriteMapper articleFavoriteMapper, ArticleTagMapper articleTagMapper, TagMapper tagMapper, UserMapper userMapper) {
+    public ArticleService(ArticleMapper articleMapper, ArticleFavoriteMapper articleFavoriteMapper, ArticleTagMapper articleTagMapper, TagMapper tagMapper, UserMapper userMapper, ArticleCache articleCache, ArticleCountCache articleCountCache, FavoritesCountBuffer favoritesCountBuffer, FavoritesBitmapCache favoritesBitmapCache, ApplicationEventPublisher eventPublisher) {
         this.articleMapper = articleMapper;
         this.articleFavoriteMapper = articleFavoriteMapper;
         this.articleTagMapper = articleTagMapper;
         this.tagMapper = tagMapper;
         this.userMapper = userMapper;
+        this.articleCache = articleCache;
+        this.articleCountCache = articleCountCache;
+        this.favoritesCountBuffer = favoritesCountBuffer;
+        this.favoritesBitmapCache = favoritesBitmapCache;
+        this.eventPublisher = eventPublisher;
     }
     
     public ArticleResponse createArticle(ArticleRequest request, String userEmail) {
@@ -47,56 +81,63 @@ public class ArticleService {
         }
         
         String baseSlug = SlugUtils.generateSlug(request.getTitle());
-        String uniqueSlug = generateUniqueSlug(baseSlug);
-        
-        Article article = new Article(uniqueSlug, request.getTitle(), 
+        Article article = new Article(null, request.getTitle(), 
                                     request.getDescription(), request.getBody(), user.getId());
+        LocalDateTime now = currentTimestamp();
+        article.setCreatedAt(now);
+        article.setUpdatedAt(now);
+        insertWithUniqueSlug(article, baseSlug);
+        saveTags(article.getId(), request.getTagList());
+        publishTagChanges(article.getId(), normalizeTags(request.getTagList()), new ArrayList<>());
         
-        articleMapper.insertArticle(article);
+        // 생성 키, 저장한 시각, 이미 조회한 작성자로 응답을 구성해 재조회를 생략
+        article.setAuthorUsername(user.getUsername());
+        article.setAuthorEmail(user.getEmail());
+        article.setAuthorBio(user.getBio());
+        article.setAuthorImage(user.getImage());
+        eventPublisher.publishEvent(new ArticleCreatedEvent(article));
         
-        Article createdArticle = articleMapper.findBySlug(uniqueSlug);
-        ArticleResponse response = new ArticleResponse(createdArticle);
-        response.setFavoritesCount(getFavoritesCount(createdArticle.getId()));
+        ArticleResponse response = new ArticleResponse(article);
+        response.setTagList(sortedTags(request.getTagList()));
         return response;
     }
     
     @Transactional(readOnly = true)
     public Article getArticleModelBySlug(String slug) {
-        return articleMapper.findBySlug(slug);
+        return findArticle(slug);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<String> getTagNames(Long articleId) {
+        return findTagNames(articleId);
     }
     
     @Transactional(readOnly = true)
     public Long getArticleIdBySlug(String slug) {
-        Article article = articleMapper.findBySlug(slug);
+        Article article = findArticle(slug);
         return article != null ? article.getId() : null;
     }
     
     @Transactional(readOnly = true)
     public ArticleResponse getArticle(String slug) {
-        Article article = articleMapper.findBySlug(slug);
+        Article article = findArticle(slug);
         if (article == null) {
             throw new RuntimeException("아티클을 찾을 수 없습니다.");
         }
         ArticleResponse response = new ArticleResponse(article);
-        response.setFavoritesCount(getFavoritesCount(article.getId()));
+        response.setTagList(findTagNames(article.getId()));
         // favorited will be false by default, will be set by controller if user is authenticated
         return response;
     }
     
     @Transactional(readOnly = true)
-    public List<ArticleResponse> getArticles(int offset, int limit) {
+    public List<ArticleSummaryResponse> getArticles(int offset, int limit) {
         List<Article> articles = articleMapper.findAllArticles(offset, limit);
-        return articles.stream()
-                .map(article -> {
-                    ArticleResponse response = new ArticleResponse(article);
-                    response.setFavoritesCount(getFavoritesCount(article.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toSummaryResponses(articles);
     }
     
     public ArticleResponse updateArticle(String slug, ArticleRequest request, String userEmail) {
-        Article existingArticle = articleMapper.findBySlug(slug);
+        Article existingArticle = findArticle(slug);
         if (existingArticle == null) {
             throw new RuntimeException("아티클을 찾을 수 없습니다.");
         }
@@ -109,17 +150,31 @@ public class ArticleService {
         existingArticle.setTitle(request.getTitle());
         existingArticle.setDescription(request.getDescription());
         existingArticle.setBody(request.getBody());
+        existingArticle.setUpdatedAt(currentTimestamp());
         
         articleMapper.updateArticle(existingArticle);
         
-        Article updatedArticle = articleMapper.findBySlug(slug);
-        ArticleResponse response = new ArticleResponse(updatedArticle);
-        response.setFavoritesCount(getFavoritesCount(updatedArticle.getId()));
+        // tagList가 null이면 기존 태그 유지, 값이 있으면 전체 교체
+        if (request.getTagList() != null) {
+            List<String> previousTags = findTagNames(existingArticle.getId());
+            List<String> currentTags = normalizeTags(request.getTagList());
+            articleTagMapper.deleteArticleTagsByArticleId(existingArticle.getId());
+            saveTags(existingArticle.getId(), currentTags);
+            publishTagChanges(existingArticle.getId(), difference(currentTags, previousTags), difference(previousTags, currentTags));
+        }
+        
+        // 수정 내용은 이미 모델에 반영되어 있으므로 재조회 없이 응답 구성
+        eventPublisher.publishEvent(new ArticleUpdatedEvent(existingArticle));
+        
+        ArticleResponse response = new ArticleResponse(existingArticle);
+        response.setTagList(request.getTagList() != null
+                ? sortedTags(request.getTagList())
+                : findTagNames(existingArticle.getId()));
         return response;
     }
     
     public void deleteArticle(String slug, String userEmail) {
-        Article article = articleMapper.findBySlug(slug);
+        Article article = findArticle(slug);
         if (article == null) {
             throw new RuntimeException("아티클을 찾을 수 없습니다.");
         }
@@ -129,52 +184,213 @@ public class ArticleService {
             throw new RuntimeException("삭제 권한이 없습니다.");
         }
         
+        // 삭제 후에는 태그를 조회할 수 없으므로 먼저 확인하고 연결도 함께 정리
+        List<String> removedTags = findTagNames(article.getId());
+        if (!removedTags.isEmpty()) {
+            articleTagMapper.deleteArticleTagsByArticleId(article.getId());
+        }
         articleMapper.deleteBySlug(slug);
+        eventPublisher.publishEvent(new ArticleDeletedEvent(article));
+        publishTagChanges(article.getId(), new ArrayList<>(), removedTags);
     }
     
     @Transactional(readOnly = true)
     public int getTotalArticlesCount() {
-        return articleMapper.countAllArticles();
+        return articleCountCache.countAll(articleMapper::countAllArticles);
     }
     
     @Transactional(readOnly = true)
-    public List<ArticleResponse> getArticlesByAuthor(String authorUsername, int offset, int limit) {
+    public int getArticlesCountByAuthor(String authorUsername) {
+        return articleCountCache.countByAuthor(authorUsername, () -> articleMapper.countArticlesByAuthor(authorUsername));
+    }
+    
+    @Transactional(readOnly = true)
+    public int getArticlesCountByTag(String tag) {
+        return articleCountCache.countByTag(tag, () -> articleMapper.countArticlesByTag(tag));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryResponse> getArticlesByAuthor(String authorUsername, int offset, int limit) {
         List<Article> articles = articleMapper.findArticlesByAuthor(authorUsername, offset, limit);
-        return articles.stream()
-                .map(article -> {
-                    ArticleResponse response = new ArticleResponse(article);
-                    response.setFavoritesCount(getFavoritesCount(article.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toSummaryResponses(articles);
     }
     
     @Transactional(readOnly = true)
-    public List<ArticleResponse> getArticlesByTag(String tag, int offset, int limit) {
+    public List<ArticleSummaryResponse> getArticlesByTag(String tag, int offset, int limit) {
         List<Article> articles = articleMapper.findArticlesByTag(tag, offset, limit);
+        return toSummaryResponses(articles);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryResponse> getArticles(ArticleCursor cursor, int limit) {
+        List<Article> articles = articleMapper.findArticlesBefore(cursor.getCreatedAt(), cursor.getId(), limit);
+        return toSummaryResponses(articles);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryResponse> getArticlesByAuthor(String authorUsername, ArticleCursor cursor, int limit) {
+        List<Article> articles = articleMapper.findArticlesByAuthorBefore(authorUsername, cursor.getCreatedAt(), cursor.getId(), limit);
+        return toSummaryResponses(articles);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryResponse> getArticlesByTag(String tag, ArticleCursor cursor, int limit) {
+        List<Article> articles = articleMapper.findArticlesByTagBefore(tag, cursor.getCreatedAt(), cursor.getId(), limit);
+        return toSummaryResponses(articles);
+    }
+    
+    /**
+     * 목록 요약 응답에 본문을 붙여 상세 응답으로 변환 (includeBody 옵션)
+     * 페이지 전체 본문을 한 번의 쿼리로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryResponse> withBodies(List<ArticleSummaryResponse> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        
+        List<Long> articleIds = summaries.stream()
+                .map(ArticleSummaryResponse::getId)
+                .collect(Collectors.toList());
+        Map<Long, String> bodies = new HashMap<>();
+        for (Article article : articleMapper.findBodiesByIds(articleIds)) {
+            bodies.put(article.getId(), article.getBody());
+        }
+        
+        return summaries.stream()
+                .map(summary -> (ArticleSummaryResponse) new ArticleResponse(summary, bodies.get(summary.getId())))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 조회된 아티클 목록을 요약 응답으로 변환 (태그는 한 번의 쿼리로 일괄 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryResponse> toSummaryResponses(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // 즐겨찾기 수는 articles.favorites_count 컬럼 값에 미반영 증감분을 더함
+        List<Long> articleIds = articles.stream()
+                .map(Article::getId)
+                .collect(Collectors.toList());
+        
+        // 페이지 전체의 태그를 한 번의 쿼리로 조회 (태그 이름순 정렬)
+        Map<Long, List<String>> tagsByArticleId = articleTagMapper.findArticleTagsByArticleIds(articleIds).stream()
+                .collect(Collectors.groupingBy(ArticleTag::getArticleId,
+                        Collectors.mapping(ArticleTag::getTagName, Collectors.toList())));
+        
         return articles.stream()
                 .map(article -> {
-                    ArticleResponse response = new ArticleResponse(article);
-                    response.setFavoritesCount(getFavoritesCount(article.getId()));
+                    ArticleSummaryResponse response = new ArticleSummaryResponse(article);
+                    response.setFavoritesCount(favoritesCountBuffer.currentCount(article.getId(), article.getFavoritesCount()));
+                    response.setTagList(tagsByArticleId.getOrDefault(article.getId(), new ArrayList<>()));
                     return response;
                 })
                 .collect(Collectors.toList());
     }
     
-    private String generateUniqueSlug(String baseSlug) {
-        String candidate = baseSlug;
-        int attempt = 0;
+    // slug 조회는 캐시를 거침 (수정/삭제 커밋 후, 즐겨찾기 수 반영 후 무효화)
+    // 캐시는 복사본을 반환하므로 미반영 즐겨찾기 증감분을 더해도 캐시에 영향 없음
+    private Article findArticle(String slug) {
+        Article article = articleCache.get(slug, articleMapper::findBySlug);
+        if (article != null) {
+            article.setFavoritesCount(favoritesCountBuffer.currentCount(article.getId(), article.getFavoritesCount()));
+        }
+        return article;
+    }
+    
+    private List<String> findTagNames(Long articleId) {
+        return tagMapper.findTagsByArticleId(articleId).stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList());
+    }
+    
+    private List<String> sortedTags(List<String> tagList) {
+        List<String> tagNames = normalizeTags(tagList);
+        tagNames.sort(Comparator.naturalOrder());
+        return tagNames;
+    }
+    
+    /**
+     * 요청의 모든 태그를 한 번의 다중 행 INSERT로 등록하고, 한 번의 조회로 ID를 확인한 뒤
+     * article_tags 연결도 한 번의 다중 행 INSERT로 저장 (태그 수와 무관하게 3회 왕복)
+     */
+    private void saveTags(Long articleId, List<String> tagList) {
+        List<String> tagNames = normalizeTags(tagList);
+        if (tagNames.isEmpty()) {
+            return;
+        }
         
-        while (articleMapper.existsBySlug(candidate)) {
-            attempt++;
-            candidate = baseSlug + "-" + attempt;
+        tagMapper.insertTags(tagNames);
+        List<Long> tagIds = tagMapper.findByNames(tagNames).stream()
+                .map(Tag::getId)
+                .collect(Collectors.toList());
+        articleTagMapper.insertArticleTags(articleId, tagIds);
+    }
+    
+    private void publishTagChanges(Long articleId, List<String> addedTags, List<String> removedTags) {
+        if (!addedTags.isEmpty() || !removedTags.isEmpty()) {
+            eventPublisher.publishEvent(new ArticleTagsChangedEvent(articleId, addedTags, removedTags));
+        }
+    }
+    
+    private List<String> difference(List<String> source, List<String> excluded) {
+        Set<String> excludedSet = new HashSet<>(excluded);
+        return source.stream()
+                .filter(tag -> !excludedSet.contains(tag))
+                .collect(Collectors.toList());
+    }
+    
+    // 일괄 가져오기(ArticleImportService)와 같은 정규화 규칙을 공유
+    static List<String> normalizeTags(List<String> tagList) {
+        if (tagList == null) {
+            return new ArrayList<>();
         }
         
-        return candidate;
+        return tagList.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+    
+    // DB 컬럼 정밀도(초)에 맞춰 잘라 응답 값과 저장 값이 일치하도록 함
+    private static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+    
+    /**
+     * 최대 접미사 조회 한 번으로 slug를 정하고 삽입.
+     * 동시 생성으로 slug 유니크 제약에 걸리면 다시 조회해 재시도하고,
+     * 마지막 시도는 임의 접미사를 붙여 경합과 무관하게 끝나도록 함.
+     */
+    private String insertWithUniqueSlug(Article article, String baseSlug) {
+        for (int attempt = 1; ; attempt++) {
+            String candidate = attempt < MAX_SLUG_ATTEMPTS
+                    ? nextAvailableSlug(baseSlug)
+                    : baseSlug + "-" + UUID.randomUUID().toString().substring(0, 8);
+            article.setSlug(candidate);
+            try {
+                articleMapper.insertArticle(article);
+                return candidate;
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_SLUG_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    private String nextAvailableSlug(String baseSlug) {
+        long maxSuffix = articleMapper.findMaxSlugSuffix(baseSlug);
+        return maxSuffix < 0 ? baseSlug : baseSlug + "-" + (maxSuffix + 1);
     }
     
     public void favoriteArticle(String slug, String userEmail) {
-        Article article = articleMapper.findBySlug(slug);
+        Article article = findArticle(slug);
         if (article == null) {
             throw new RuntimeException("아티클을 찾을 수 없습니다.");
         }
@@ -184,15 +400,17 @@ public class ArticleService {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
         
-        // Check if already favorited
-        if (!articleFavoriteMapper.isFavorited(article.getId(), user.getId())) {
-            ArticleFavorite favorite = new ArticleFavorite(article.getId(), user.getId());
-            articleFavoriteMapper.insertFavorite(favorite);
+        // INSERT IGNORE로 중복 클릭/동시 요청에도 한 행만 추가되며, 실제로 추가된 경우에만 카운터 증가
+        // (카운터는 write-behind 버퍼에 누적해 인기 아티클 행 잠금 경합을 피함)
+        ArticleFavorite favorite = new ArticleFavorite(article.getId(), user.getId());
+        if (articleFavoriteMapper.insertFavorite(favorite) > 0) {
+            favoritesCountBuffer.add(article, 1);
+            eventPublisher.publishEvent(new ArticleFavoriteChangedEvent(article, user.getId(), true));
         }
     }
     
     public void unfavoriteArticle(String slug, String userEmail) {
-        Article article = articleMapper.findBySlug(slug);
+        Article article = findArticle(slug);
         if (article == null) {
             throw new RuntimeException("아티클을 찾을 수 없습니다.");
         }
@@ -202,11 +420,11 @@ public class ArticleService {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
         
-        articleFavoriteMapper.deleteFavorite(article.getId(), user.getId());
-    }
-    
-    public int getFavoritesCount(Long articleId) {
-        return articleFavoriteMapper.countFavorites(articleId);
+        // 실제로 행이 삭제된 경우에만 카운터 감소
+        if (articleFavoriteMapper.deleteFavorite(article.getId(), user.getId()) > 0) {
+            favoritesCountBuffer.add(article, -1);
+            eventPublisher.publishEvent(new ArticleFavoriteChangedEvent(article, user.getId(), false));
+        }
     }
     
     public boolean isFavorited(Long articleId, String userEmail) {
@@ -215,6 +433,26 @@ public class ArticleService {
             return false;
         }
         
+        // 사용자별 즐겨찾기 비트맵으로 메모리에서 판정 (비활성화 시 DB 조회)
+        if (favoritesBitmapCache.isEnabled()) {
+            return favoritesBitmapCache.isFavorited(user.getId(), articleId);
+        }
         return articleFavoriteMapper.isFavorited(articleId, user.getId());
     }
+    
+    @Transactional(readOnly = true)
+    public Set<Long> getFavoritedArticleIds(List<Long> articleIds, String userEmail) {
+        if (articleIds.isEmpty() || userEmail == null) {
+            return new HashSet<>();
+        }
+        
+        // 비트맵 사용 시 사용자 조회 한 번으로 페이지 전체를 메모리에서 판정
+        if (favoritesBitmapCache.isEnabled()) {
+            User user = userMapper.findByEmail(userEmail);
+            return user != null ? favoritesBitmapCache.favoritedAmong(user.getId(), articleIds) : new HashSet<>();
+        }
+        
+        // 사용자 조회와 즐겨찾기 여부를 하나의 조인 쿼리로 처리
+        return new HashSet<>(articleFavoriteMapper.findFavoritedArticleIds(userEmail, articleIds));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.realworld.conduit.service;
 
+import com.realworld.conduit.cache.ArticleCache;
 import com.realworld.conduit.dto.CommentRequest;
 import com.realworld.conduit.dto.CommentResponse;
 import com.realworld.conduit.mapper.ArticleMapper;
@@ -11,7 +12,8 @@ import com.realworld.conduit.model.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,18 +24,21 @@ public class CommentService {
     private final CommentMapper commentMapper;
     private final ArticleMapper articleMapper;
     private final UserMapper userMapper;
+    private final ArticleCache articleCache;
     
     @Autowired
     public CommentService(CommentMapper commentMapper, 
                          ArticleMapper articleMapper, 
-                         UserMapper userMapper) {
+                         UserMapper userMapper,
+                         ArticleCache articleCache) {
         this.commentMapper = commentMapper;
         this.articleMapper = articleMapper;
         this.userMapper = userMapper;
+        this.articleCache = articleCache;
     }
     
     public CommentResponse createComment(String articleSlug, CommentRequest request, String userEmail) {
-        Article article = articleMapper.findBySlug(articleSlug);
+        Article article = articleCache.get(articleSlug, articleMapper::findBySlug);
         if (article == null) {
             throw new RuntimeException("아티클을 찾을 수 없습니다.");
         }
@@ -44,15 +49,20 @@ public class CommentService {
         }
         
         Comment comment = new Comment(request.getBody(), article.getId(), user.getId());
+        comment.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
         commentMapper.insertComment(comment);
         
-        Comment createdComment = commentMapper.findById(comment.getId());
-        return new CommentResponse(createdComment);
+        // 생성 키와 이미 조회한 작성자로 응답 구성 (재조회 생략)
+        comment.setAuthorUsername(user.getUsername());
+        comment.setAuthorEmail(user.getEmail());
+        comment.setAuthorBio(user.getBio());
+        comment.setAuthorImage(user.getImage());
+        return new CommentResponse(comment);
     }
     
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(String articleSlug) {
-        Article article = articleMapper.findBySlug(articleSlug);
+        Article article = articleCache.get(articleSlug, articleMapper::findBySlug);
         if (article == null) {
             throw new RuntimeException("아티클을 찾을 수 없습니다.");
         }
@@ -64,7 +74,7 @@ public class CommentService {
     }
     
     public void deleteComment(String articleSlug, Long commentId, String userEmail) {
-        Article article = articleMapper.findBySlug(articleSlug);
+        Article article = articleCache.get(articleSlug, articleMapper::findBySlug);
         if (article == null) {
             throw new RuntimeException("아티클을 찾을 수 없습니다.");
         }
@@ -3,13 +3,15 @@ package com.realworld.conduit.service;
 import com.realworld.conduit.mapper.UserMapper;
 import com.realworld.conduit.model.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +19,10 @@ public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserMapper userMapper;
     
+    // 관리자 API(/api/admin/**)를 허용할 이메일 목록 (쉼표 구분, 기본값 없음)
+    @Value("${conduit.admin.emails:}")
+    private Set<String> adminEmails = Set.of();
+    
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userMapper.findByEmail(email);
@@ -27,7 +33,9 @@ public class CustomUserDetailsService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
+                .authorities(adminEmails.contains(user.getEmail())
+                        ? List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))
+                        : List.of(new SimpleGrantedAuthority("ROLE_USER")))
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.mapper.UserFollowMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.UserFollow;
+import com.realworld.conduit.util.ArticleCursor;
+import com.realworld.conduit.util.KWayMerge;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * fan-out-on-read 피드 조회
+ *
+ * 1. 팔로우 중인 작성자 목록 조회
+ * 2. 작성자별 최신 limit개 아티클 키(id, author_id, created_at)를 조회.
+ *    작성자마다 ORDER BY ... LIMIT 서브쿼리를 UNION ALL로 이은 문장을 쓰며,
+ *    문장 길이가 팔로우 수에 비례하므로 conduit.feed.pull-authors-per-query명 단위로 나눠 실행
+ * 3. 작성자별 정렬 목록을 힙으로 k-way 병합해 한 페이지 선택
+ * 4. 선택된 아티클의 요약 컬럼을 id 목록으로 한 번에 조회
+ *
+ * 쿼리 수는 3 + ceil(팔로우 작성자 수 / pull-authors-per-query)회.
+ * 작성자 수별 키 조회 비용은 FeedKeyQueryBenchmark로 측정함.
+ */
+@Component
+@ConditionalOnProperty(name = "conduit.feed.strategy", havingValue = "pull")
+public class FanOutOnReadFeedReader implements FeedReader {
+    
+    private final UserFollowMapper userFollowMapper;
+    private final ArticleMapper articleMapper;
+    private final int authorsPerQuery;
+    
+    @Autowired
+    public FanOutOnReadFeedReader(UserFollowMapper userFollowMapper, ArticleMapper articleMapper,
+                                  @Value("${conduit.feed.pull-authors-per-query:200}") int authorsPerQuery) {
+        this.userFollowMapper = userFollowMapper;
+        this.articleMapper = articleMapper;
+        this.authorsPerQuery = Math.max(1, authorsPerQuery);
+    }
+    
+    @Override
+    public List<Article> read(Long userId, ArticleCursor cursor, int limit) {
+        List<Long> authorIds = userFollowMapper.findFollowingByUserId(userId).stream()
+                .map(UserFollow::getFollowingId)
+                .collect(Collectors.toList());
+        if (authorIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        LocalDateTime createdAt = cursor != null ? cursor.getCreatedAt() : null;
+        Long id = cursor != null ? cursor.getId() : null;
+        List<Article> keys = new ArrayList<>();
+        for (int from = 0; from < authorIds.size(); from += authorsPerQuery) {
+            List<Long> chunk = authorIds.subList(from, Math.min(from + authorsPerQuery, authorIds.size()));
+            keys.addAll(articleMapper.findRecentArticleKeysByAuthors(chunk, createdAt, id, limit));
+        }
+        if (keys.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // 각 쿼리 결과는 작성자별 (created_at DESC, id DESC) 순이고 작성자는 쿼리 간에 겹치지 않으므로
+        // 작성자별로 모아도 정렬이 유지됨
+        Collection<List<Article>> perAuthor = keys.stream()
+                .collect(Collectors.groupingBy(Article::getAuthorId, LinkedHashMap::new, Collectors.toList()))
+                .values();
+        List<Article> page = KWayMerge.merge(new ArrayList<>(perAuthor), NEWEST_FIRST, limit);
+        
+        List<Long> pageIds = page.stream()
+                .map(Article::getId)
+                .collect(Collectors.toList());
+        Map<Long, Article> summaries = new HashMap<>();
+        for (Article article : articleMapper.findSummariesByIds(pageIds)) {
+            summaries.put(article.getId(), article);
+        }
+        
+        // 병합 순서 유지, 그 사이 삭제된 아티클은 제외
+        List<Article> result = new ArrayList<>(page.size());
+        for (Long pageId : pageIds) {
+            Article article = summaries.get(pageId);
+            if (article != null) {
+                result.add(article);
+            }
+        }
+        return result;
+    }
+}
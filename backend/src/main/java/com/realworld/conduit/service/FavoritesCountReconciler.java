@@ -0,0 +1,44 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.ArticleMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * articles.favorites_count 정합성 보정
+ *
+ * 아티클 ID 구간 단위로 article_favorites를 다시 집계해 카운터가 어긋난 행만 갱신함.
+ * 구간마다 별도 문장으로 커밋되므로 대용량 테이블에서도 잠금이 짧게 유지됨.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FavoritesCountReconciler {
+    
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    
+    private final ArticleMapper articleMapper;
+    
+    /**
+     * 전체 아티클의 favorites_count를 batchSize 구간씩 재계산
+     *
+     * @return 보정된 아티클 수
+     */
+    public int reconcile(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+        
+        long maxId = articleMapper.findMaxArticleId();
+        int corrected = 0;
+        
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            long toId = Math.min(fromId + batchSize, maxId + 1);
+            corrected += articleMapper.reconcileFavoritesCounts(fromId, toId);
+        }
+        
+        log.info("favorites_count 보정 완료: 최대 ID {}, 보정 {}건", maxId, corrected);
+        return corrected;
+    }
+}
@@ -0,0 +1,142 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.UserFollowedEvent;
+import com.realworld.conduit.event.UserUnfollowedEvent;
+import com.realworld.conduit.mapper.TimelineMapper;
+import com.realworld.conduit.mapper.UserFollowMapper;
+import com.realworld.conduit.model.Article;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팔로우 피드 fan-out-on-write
+ *
+ * 아티클 생성 커밋 후 별도 스레드에서 팔로워 타임라인에 기록하므로 작성 요청은 대기하지 않음.
+ * 팔로워 수가 임계값 이상인 작성자는 fan-out 대신 조회 시 병합 대상으로 등록함.
+ * 타임라인은 사용자마다 최신 conduit.feed.timeline-max-size개만 유지하며, 행이 추가된 사용자만 모아 두었다가
+ * 주기적으로 초과분을 지움 (상한보다 깊은 페이지는 피드에서 제공하지 않음).
+ * conduit.feed.strategy=pull 배포에서는 타임라인을 쓰지 않으므로 등록되지 않음.
+ */
+@Service
+@ConditionalOnProperty(name = "conduit.feed.strategy", havingValue = "push", matchIfMissing = true)
+@Slf4j
+public class FeedFanoutService {
+    
+    private final TimelineMapper timelineMapper;
+    private final UserFollowMapper userFollowMapper;
+    private final int fanoutThreshold;
+    private final int backfillSize;
+    private final int timelineMaxSize;
+    
+    // 마지막 정리 이후 타임라인에 행이 추가된 사용자 / fan-out한 작성자 (팔로워 전체가 대상)
+    private final Set<Long> pendingTrimUsers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingTrimAuthors = ConcurrentHashMap.newKeySet();
+    
+    @Autowired
+    public FeedFanoutService(TimelineMapper timelineMapper,
+                             UserFollowMapper userFollowMapper,
+                             @Value("${conduit.feed.fanout-threshold:10000}") int fanoutThreshold,
+                             @Value("${conduit.feed.backfill-size:50}") int backfillSize,
+                             @Value("${conduit.feed.timeline-max-size:1000}") int timelineMaxSize) {
+        if (timelineMaxSize <= 0) {
+            throw new IllegalArgumentException("타임라인 최대 크기는 1 이상이어야 합니다.");
+        }
+        this.timelineMapper = timelineMapper;
+        this.userFollowMapper = userFollowMapper;
+        this.fanoutThreshold = fanoutThreshold;
+        this.backfillSize = backfillSize;
+        this.timelineMaxSize = timelineMaxSize;
+    }
+    
+    @Async("feedExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleCreated(ArticleCreatedEvent event) {
+        Article article = event.article();
+        int followers = userFollowMapper.countFollowers(article.getAuthorId());
+        if (followers == 0) {
+            return;
+        }
+        
+        if (followers >= fanoutThreshold) {
+            timelineMapper.insertPullAuthor(article.getAuthorId());
+            log.info("팔로워 {}명으로 fan-out 생략, 조회 시 병합: authorId={}", followers, article.getAuthorId());
+            return;
+        }
+        
+        int inserted = timelineMapper.fanOutToFollowers(article.getId(), article.getAuthorId(), article.getCreatedAt());
+        pendingTrimAuthors.add(article.getAuthorId());
+        log.debug("타임라인 fan-out 완료: articleId={}, rows={}", article.getId(), inserted);
+    }
+    
+    @Async("feedExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserFollowed(UserFollowedEvent event) {
+        timelineMapper.backfillFromAuthor(event.followerId(), event.followingId(), backfillSize);
+        pendingTrimUsers.add(event.followerId());
+    }
+    
+    @Async("feedExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUnfollowed(UserUnfollowedEvent event) {
+        timelineMapper.deleteAuthorFromTimeline(event.followerId(), event.followingId());
+    }
+    
+    /**
+     * 행이 추가된 타임라인에서 최신 timelineMaxSize개를 넘는 행 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    @Scheduled(fixedDelayString = "${conduit.feed.timeline-trim-interval:PT10M}")
+    public int trimTimelines() {
+        Set<Long> userIds = drain(pendingTrimUsers);
+        for (Long authorId : drain(pendingTrimAuthors)) {
+            userFollowMapper.findFollowersByUserId(authorId)
+                    .forEach(follow -> userIds.add(follow.getFollowerId()));
+        }
+        
+        int deleted = 0;
+        for (Long userId : userIds) {
+            try {
+                deleted += trimTimeline(userId);
+            } catch (RuntimeException e) {
+                // 다음 주기에 재시도
+                pendingTrimUsers.add(userId);
+                log.warn("타임라인 정리 실패: userId={}", userId, e);
+            }
+        }
+        if (deleted > 0) {
+            log.debug("타임라인 정리 완료: users={}, rows={}", userIds.size(), deleted);
+        }
+        return deleted;
+    }
+    
+    private int trimTimeline(Long userId) {
+        Article cutoff = timelineMapper.findTimelineCutoff(userId, timelineMaxSize);
+        if (cutoff == null) {
+            return 0;
+        }
+        return timelineMapper.deleteTimelineUpTo(userId, cutoff.getCreatedAt(), cutoff.getId());
+    }
+    
+    // 꺼내는 동안 추가된 id는 남겨 다음 주기에 처리
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>();
+        for (Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,26 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.util.ArticleCursor;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 팔로우 피드 조회 전략
+ *
+ * conduit.feed.strategy 로 배포별 선택: push(기본, fan-out-on-write 타임라인), pull(fan-out-on-read 병합)
+ */
+public interface FeedReader {
+    
+    // 피드 정렬 순서: (created_at, id) 내림차순, keyset 커서와 동일
+    Comparator<Article> NEWEST_FIRST = Comparator
+            .comparing(Article::getCreatedAt)
+            .thenComparing(Article::getId)
+            .reversed();
+    
+    /**
+     * cursor 이후(null이면 처음부터) 최대 limit개의 피드 아티클을 최신순으로 반환
+     */
+    List<Article> read(Long userId, ArticleCursor cursor, int limit);
+}
@@ -0,0 +1,41 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.dto.ArticleSummaryResponse;
+import com.realworld.conduit.mapper.UserMapper;
+import com.realworld.conduit.model.User;
+import com.realworld.conduit.util.ArticleCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 팔로우 피드 조회
+ *
+ * 실제 조회 방식은 배포 설정(conduit.feed.strategy)으로 선택된 {@link FeedReader}에 위임함.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FeedService {
+    
+    private final FeedReader feedReader;
+    private final UserMapper userMapper;
+    private final ArticleService articleService;
+    
+    @Autowired
+    public FeedService(FeedReader feedReader, UserMapper userMapper, ArticleService articleService) {
+        this.feedReader = feedReader;
+        this.userMapper = userMapper;
+        this.articleService = articleService;
+    }
+    
+    public List<ArticleSummaryResponse> getFeed(String userEmail, ArticleCursor cursor, int limit) {
+        User user = userMapper.findByEmail(userEmail);
+        if (user == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        
+        return articleService.toSummaryResponses(feedReader.read(user.getId(), cursor, limit));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.event.ArticleTagsChangedEvent;
+import com.realworld.conduit.event.ArticlesImportedEvent;
+import com.realworld.conduit.mapper.TagMapper;
+import com.realworld.conduit.model.TagCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 인기 태그 메모리 집계
+ *
+ * 태그별 사용 수를 메모리에 두고 article_tags 변경 이벤트로 증분 갱신함.
+ * 사용 수 순위는 정렬 집합으로 유지하고, 상위 MAX_POPULAR개 스냅샷을 갱신 시마다 교체하므로
+ * 조회는 잠금이나 DB 쿼리 없이 스냅샷만 읽음. 시작 시 적재는 StartupWarmupRunner가 수행하고,
+ * 누락된 이벤트는 주기적인 DB 집계로 보정함.
+ */
+@Service
+@Slf4j
+public class PopularTagService {
+    
+    public static final int MAX_POPULAR = 100;
+    
+    // 사용 수 내림차순, 같으면 이름순
+    private static final Comparator<TagCount> POPULAR_ORDER = Comparator
+            .comparingLong(TagCount::getCount).reversed()
+            .thenComparing(TagCount::getName);
+    
+    private final TagMapper tagMapper;
+    
+    private final Object lock = new Object();
+    private final Map<String, Long> counts = new HashMap<>();
+    private final TreeSet<TagCount> ranking = new TreeSet<>(POPULAR_ORDER);
+    private volatile List<String> topTags = List.of();
+    
+    @Autowired
+    public PopularTagService(TagMapper tagMapper) {
+        this.tagMapper = tagMapper;
+    }
+    
+    /**
+     * 사용 수 상위 limit개 태그 이름 (최대 MAX_POPULAR개)
+     */
+    public List<String> getPopularTags(int limit) {
+        List<String> snapshot = topTags;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleTagsChanged(ArticleTagsChangedEvent event) {
+        synchronized (lock) {
+            event.addedTags().forEach(name -> adjust(name, 1));
+            event.removedTags().forEach(name -> adjust(name, -1));
+            publishSnapshot();
+        }
+    }
+    
+    // 일괄 가져오기는 건별 증감 대신 DB 집계로 다시 맞춤
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        reconcile();
+    }
+    
+    /**
+     * DB 집계로 전체 사용 수를 다시 맞춤
+     */
+    @Scheduled(fixedDelayString = "${conduit.popular-tags.reconcile-interval:PT10M}",
+               initialDelayString = "${conduit.popular-tags.reconcile-interval:PT10M}")
+    public void reconcile() {
+        List<TagCount> usage = tagMapper.countTagUsage();
+        synchronized (lock) {
+            counts.clear();
+            ranking.clear();
+            for (TagCount tagCount : usage) {
+                counts.put(tagCount.getName(), tagCount.getCount());
+                ranking.add(new TagCount(tagCount.getName(), tagCount.getCount()));
+            }
+            publishSnapshot();
+        }
+        log.debug("인기 태그 집계 보정 완료: tags={}", usage.size());
+    }
+    
+    // 순위 집합의 원소는 변경하지 않고 제거 후 새 값으로 다시 추가
+    private void adjust(String name, long delta) {
+        Long current = counts.get(name);
+        long before = current != null ? current : 0;
+        long after = Math.max(0, before + delta);
+        
+        if (current != null) {
+            ranking.remove(new TagCount(name, before));
+        }
+        if (after > 0) {
+            counts.put(name, after);
+            ranking.add(new TagCount(name, after));
+        } else {
+            counts.remove(name);
+        }
+    }
+    
+    private void publishSnapshot() {
+        topTags = ranking.stream()
+                .limit(MAX_POPULAR)
+                .map(TagCount::getName)
+                .toList();
+    }
+}
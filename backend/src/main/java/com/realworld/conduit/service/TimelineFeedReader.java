@@ -0,0 +1,44 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.TimelineMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.util.ArticleCursor;
+import com.realworld.conduit.util.KWayMerge;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * fan-out-on-write 피드 조회
+ *
+ * 미리 기록된 타임라인을 범위 스캔으로 읽고, 조회 시 병합 대상 작성자의 최근 아티클이 있으면 합침.
+ */
+@Component
+@ConditionalOnProperty(name = "conduit.feed.strategy", havingValue = "push", matchIfMissing = true)
+public class TimelineFeedReader implements FeedReader {
+    
+    private final TimelineMapper timelineMapper;
+    
+    @Autowired
+    public TimelineFeedReader(TimelineMapper timelineMapper) {
+        this.timelineMapper = timelineMapper;
+    }
+    
+    @Override
+    public List<Article> read(Long userId, ArticleCursor cursor, int limit) {
+        LocalDateTime createdAt = cursor != null ? cursor.getCreatedAt() : null;
+        Long id = cursor != null ? cursor.getId() : null;
+        
+        List<Article> pushed = timelineMapper.findTimeline(userId, createdAt, id, limit);
+        List<Article> pulled = timelineMapper.findPullAuthorArticles(userId, createdAt, id, limit);
+        if (pulled.isEmpty()) {
+            return pushed;
+        }
+        
+        // 병합 대상으로 바뀌기 전에 fan-out된 아티클은 양쪽에 모두 있을 수 있음 (병합 시 중복 제거)
+        return KWayMerge.merge(List.of(pushed, pulled), NEWEST_FIRST, limit);
+    }
+}
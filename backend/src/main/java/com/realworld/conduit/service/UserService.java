@@ -3,12 +3,16 @@ package com.realworld.conduit.service;
 import com.realworld.conduit.dto.UserRegistrationRequest;
 import com.realworld.conduit.dto.UserResponse;
 import com.realworld.conduit.dto.UserUpdateRequest;
+import com.realworld.conduit.event.UserFollowedEvent;
+import com.realworld.conduit.event.UserUnfollowedEvent;
+import com.realworld.conduit.event.UserUpdatedEvent;
 import com.realworld.conduit.mapper.UserMapper;
 import com.realworld.conduit.mapper.UserFollowMapper;
 import com.realworld.conduit.model.User;
 import com.realworld.conduit.model.UserFollow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +25,7 @@ public class UserService {
     private final UserMapper userMapper;
     private final UserFollowMapper userFollowMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public UserResponse registerUser(UserRegistrationRequest request) {
@@ -101,9 +106,10 @@ public class UserService {
         }
         
         userMapper.updateUser(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getId(), user.getUsername()));
         
-        User updatedUser = userMapper.findByEmail(user.getEmail());
-        return UserResponse.from(updatedUser);
+        // 변경 내용이 이미 반영된 모델로 응답 구성 (재조회 생략)
+        return UserResponse.from(user);
     }
     
     // 로그인은 Spring Security에서 처리됩니다.
@@ -127,15 +133,12 @@ public class UserService {
             throw new RuntimeException("자기 자신을 팔로우할 수 없습니다");
         }
         
-        // 이미 팔로우하고 있는지 확인
-        if (userFollowMapper.isFollowing(currentUser.getId(), targetUser.getId())) {
-            throw new RuntimeException("이미 팔로우하고 있는 사용자입니다");
-        }
-        
+        // 이미 팔로우 중이면 INSERT IGNORE가 0행을 반환하며 같은 결과를 응답 (멱등)
         UserFollow userFollow = new UserFollow(currentUser.getId(), targetUser.getId());
-        userFollowMapper.insertFollow(userFollow);
-        
-        log.info("팔로우 완료: {} -> {}", currentUser.getUsername(), targetUser.getUsername());
+        if (userFollowMapper.insertFollow(userFollow) > 0) {
+            eventPublisher.publishEvent(new UserFollowedEvent(currentUser.getId(), targetUser.getId()));
+            log.info("팔로우 완료: {} -> {}", currentUser.getUsername(), targetUser.getUsername());
+        }
         
         UserResponse response = UserResponse.from(targetUser);
         response.setFollowing(true);
@@ -157,15 +160,12 @@ public class UserService {
             throw new RuntimeException("언팔로우할 사용자를 찾을 수 없습니다: " + targetUsername);
         }
         
-        // 팔로우하고 있는지 확인
-        if (!userFollowMapper.isFollowing(currentUser.getId(), targetUser.getId())) {
-            throw new RuntimeException("팔로우하지 않고 있는 사용자입니다");
+        // 팔로우 중이 아니었으면 0행 삭제로 같은 결과를 응답 (멱등)
+        if (userFollowMapper.deleteFollow(currentUser.getId(), targetUser.getId()) > 0) {
+            eventPublisher.publishEvent(new UserUnfollowedEvent(currentUser.getId(), targetUser.getId()));
+            log.info("언팔로우 완료: {} -> {}", currentUser.getUsername(), targetUser.getUsername());
         }
         
-        userFollowMapper.deleteFollow(currentUser.getId(), targetUser.getId());
-        
-        log.info("언팔로우 완료: {} -> {}", currentUser.getUsername(), targetUser.getUsername());
-        
         UserResponse response = UserResponse.from(targetUser);
         response.setFollowing(false);
         response.setFollowersCount(userFollowMapper.countFollowers(targetUser.getId()));
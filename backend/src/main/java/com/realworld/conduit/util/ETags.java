@@ -0,0 +1,87 @@
+package com.realworld.conduit.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 응답을 직렬화하지 않고 버전 정보(id, updated_at, 카운터 등)만으로 강한 ETag를 계산
+ *
+ * 같은 값 목록이면 항상 같은 태그가 나오며, Iterable 값은 원소 수를 먼저 쓰고 원소 단위로 펼쳐서 해시함.
+ * 값마다 종류와 길이를 앞에 붙여, 목록 원소가 다음 값으로 밀리거나 값 안의 구분 문자로 경계가 바뀌어도
+ * 서로 다른 상태가 같은 태그가 되지 않게 함.
+ */
+public final class ETags {
+
+    private static final byte VALUE = 'V';
+    private static final byte LIST = 'L';
+    private static final int TAG_BYTES = 16;
+
+    private ETags() {}
+
+    public static String strong(Object... parts) {
+        MessageDigest digest = sha256();
+        for (Object part : parts) {
+            update(digest, part);
+        }
+        byte[] hash = digest.digest();
+        return "\"" + HexFormat.of().formatHex(hash, 0, TAG_BYTES) + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더가 주어진 태그와 일치하는지 확인 (*, 쉼표 목록, W/ 접두사 허용)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void update(MessageDigest digest, Object part) {
+        if (part instanceof Iterable<?> values) {
+            List<Object> elements = new ArrayList<>();
+            values.forEach(elements::add);
+            digest.update(LIST);
+            updateInt(digest, elements.size());
+            for (Object value : elements) {
+                update(digest, value);
+            }
+            return;
+        }
+        byte[] bytes = String.valueOf(part).getBytes(StandardCharsets.UTF_8);
+        digest.update(VALUE);
+        updateInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void updateInt(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.realworld.conduit.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 정렬된 여러 목록을 힙으로 병합
+ *
+ * 각 목록의 첫 원소만 힙에 두므로 k개 목록에서 limit개를 뽑는 비용은 O(k + limit log k).
+ * 비교 결과가 같은 원소는 같은 항목으로 보고 한 번만 반환함.
+ */
+public final class KWayMerge {
+    
+    private KWayMerge() {}
+    
+    public static <T> List<T> merge(List<? extends List<T>> sortedLists, Comparator<? super T> order, int limit) {
+        PriorityQueue<Head<T>> heap = new PriorityQueue<>(
+                Math.max(1, sortedLists.size()), (a, b) -> order.compare(a.value, b.value));
+        for (List<T> list : sortedLists) {
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heap.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+        
+        List<T> merged = new ArrayList<>(Math.min(limit, 1024));
+        T last = null;
+        while (merged.size() < limit && !heap.isEmpty()) {
+            Head<T> head = heap.poll();
+            if (last == null || order.compare(last, head.value) != 0) {
+                merged.add(head.value);
+                last = head.value;
+            }
+            if (head.rest.hasNext()) {
+                head.value = head.rest.next();
+                heap.add(head);
+            }
+        }
+        return merged;
+    }
+    
+    private static final class Head<T> {
+        private T value;
+        private final Iterator<T> rest;
+        
+        private Head(T value, Iterator<T> rest) {
+            this.value = value;
+            this.rest = rest;
+        }
+    }
+}
@@ -5,25 +5,49 @@ import java.util.UUID;
 
 public class SlugUtils {
     
+    /**
+     * 제목을 slug로 변환 (소문자, 공백/하이픈 연속은 하이픈 하나, 영문/숫자/한글 외 문자 제거, 앞뒤 하이픈 제거).
+     * 정규식 없이 한 번의 순회로 처리하며, 결과가 비면 UUID를 사용함.
+     */
     public static String generateSlug(String title) {
         if (title == null || title.trim().isEmpty()) {
             return UUID.randomUUID().toString();
         }
         
-        // 공백을 하이픈으로 변경하고 소문자로 변환
-        String slug = title.trim()
-                .toLowerCase()
-                .replaceAll("\\s+", "-")  // 공백을 하이픈으로
-                .replaceAll("[^a-z0-9\\-가-힣]", "")  // 알파벳, 숫자, 하이픈, 한글만 허용
-                .replaceAll("-+", "-")  // 연속된 하이픈을 하나로
-                .replaceAll("^-|-$", "");  // 앞뒤 하이픈 제거
+        String lower = title.trim().toLowerCase();
+        StringBuilder slug = new StringBuilder(lower.length());
+        boolean pendingHyphen = false;
+        
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '-' || isWhitespace(c)) {
+                // 공백과 하이픈은 다음 허용 문자 앞에서 하나로 합침 (맨 앞/맨 뒤면 버림)
+                pendingHyphen = true;
+            } else if (isSlugChar(c)) {
+                if (pendingHyphen && slug.length() > 0) {
+                    slug.append('-');
+                }
+                slug.append(c);
+                pendingHyphen = false;
+            }
+            // 그 외 문자는 제거하되 앞뒤 하이픈 병합 상태는 유지
+        }
         
         // 빈 문자열인 경우 UUID 사용
-        if (slug.isEmpty()) {
-            slug = UUID.randomUUID().toString();
+        if (slug.length() == 0) {
+            return UUID.randomUUID().toString();
         }
         
-        return slug;
+        return slug.toString();
+    }
+    
+    // 정규식 \s 와 같은 문자 집합
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+    
+    private static boolean isSlugChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣');
     }
     
     public static String generateUniqueSlug(String title, String suffix) {
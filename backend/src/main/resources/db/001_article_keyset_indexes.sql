@@ -0,0 +1,8 @@
+-- 아티클 목록 keyset 페이지네이션용 복합 인덱스
+-- ORDER BY created_at DESC, id DESC 와 (created_at, id) 커서 조건을 인덱스 범위 스캔으로 처리
+USE realworld_conduit;
+
+CREATE INDEX idx_articles_created_at_id ON articles (created_at, id);
+
+-- 작성자 필터 목록용
+CREATE INDEX idx_articles_author_created_at_id ON articles (author_id, created_at, id);
@@ -0,0 +1,7 @@
+-- 태그 필터링을 article_tags 조인으로 처리하기 위한 인덱스
+-- tags.name 동등 조건 조회 후 (tag_id, article_id) 범위 스캔
+USE realworld_conduit;
+
+CREATE UNIQUE INDEX uk_tags_name ON tags (name);
+
+CREATE UNIQUE INDEX uk_article_tags_tag_article ON article_tags (tag_id, article_id);
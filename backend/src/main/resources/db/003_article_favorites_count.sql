@@ -0,0 +1,10 @@
+-- 아티클 즐겨찾기 수 비정규화 컬럼
+-- 조회 시 article_favorites COUNT(*) 대신 articles.favorites_count를 그대로 사용
+USE realworld_conduit;
+
+ALTER TABLE articles ADD COLUMN favorites_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필 (updated_at 자동 갱신 방지)
+UPDATE articles a
+SET a.favorites_count = (SELECT COUNT(*) FROM article_favorites af WHERE af.article_id = a.id),
+    a.updated_at = a.updated_at;
@@ -0,0 +1,21 @@
+-- 팔로우 피드 fan-out-on-write 타임라인
+-- 아티클 생성 시 팔로워별로 (user_id, created_at, article_id) 행을 미리 기록해
+-- 피드 조회를 기본키 범위 스캔 한 번으로 처리
+USE realworld_conduit;
+
+CREATE TABLE user_timelines (
+    user_id INT NOT NULL,
+    article_id INT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (user_id, created_at, article_id),
+    KEY idx_user_timelines_article (article_id),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE
+);
+
+-- 팔로워가 많아 fan-out을 생략하고 조회 시 병합(merge-at-read)하는 작성자
+CREATE TABLE feed_pull_authors (
+    author_id INT PRIMARY KEY,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE
+);
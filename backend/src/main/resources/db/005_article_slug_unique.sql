@@ -0,0 +1,6 @@
+-- slug 할당을 유니크 제약에 의존하도록 보장
+-- 동시 생성 경합은 중복 키 오류 후 재시도로 처리하고,
+-- 최대 접미사 조회(slug LIKE 'base%')는 이 인덱스의 prefix 범위 스캔을 사용
+USE realworld_conduit;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_articles_slug ON articles (slug);
@@ -0,0 +1,20 @@
+-- 즐겨찾기/팔로우 중복 행 방지
+-- INSERT IGNORE 한 문장으로 멱등 쓰기를 하기 위해 (article_id, user_id), (follower_id, following_id) 유니크 인덱스 추가
+USE realworld_conduit;
+
+-- 기존 중복 행 정리 (가장 먼저 생성된 행만 유지)
+DELETE af1 FROM article_favorites af1
+JOIN article_favorites af2
+  ON af1.article_id = af2.article_id AND af1.user_id = af2.user_id AND af1.id > af2.id;
+
+DELETE uf1 FROM user_follows uf1
+JOIN user_follows uf2
+  ON uf1.follower_id = uf2.follower_id AND uf1.following_id = uf2.following_id AND uf1.id > uf2.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_article_favorites_article_user ON article_favorites (article_id, user_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_follows_follower_following ON user_follows (follower_id, following_id);
+
+-- 중복 정리로 달라진 즐겨찾기 수 재계산 (updated_at 자동 갱신 방지)
+UPDATE articles a
+SET a.favorites_count = (SELECT COUNT(*) FROM article_favorites af WHERE af.article_id = a.id),
+    a.updated_at = a.updated_at;
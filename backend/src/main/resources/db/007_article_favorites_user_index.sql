@@ -0,0 +1,5 @@
+-- 사용자별 즐겨찾기 비트맵 로드용 커버링 인덱스
+-- WHERE user_id = ? ORDER BY article_id 를 테이블 접근과 정렬 없이 처리
+USE realworld_conduit;
+
+CREATE INDEX IF NOT EXISTS idx_article_favorites_user_article ON article_favorites (user_id, article_id);
@@ -0,0 +1,97 @@
+package com.realworld.conduit.cache;
+
+import com.realworld.conduit.config.PrimaryReads;
+import com.realworld.conduit.event.ArticleUpdatedEvent;
+import com.realworld.conduit.event.FavoritesCountsFlushedEvent;
+import com.realworld.conduit.model.Article;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArticleCacheTest {
+
+    private AtomicInteger loads;
+    private Function<String, Article> loader;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+        loader = slug -> {
+            loads.incrementAndGet();
+            if (slug.startsWith("missing")) {
+                return null;
+            }
+            Article article = new Article(slug, "Title", "Description", "Body", 1L);
+            article.setId(1L);
+            return article;
+        };
+    }
+
+    @Test
+    @DisplayName("같은 slug 반복 조회 시 DB는 한 번만 조회 테스트")
+    void get_LoadsOnce() {
+        ArticleCache cache = new ArticleCache(new PrimaryReads(null, false), true, 1024 * 1024, Duration.ofMinutes(5));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.get("hot-article", loader).getSlug()).isEqualTo("hot-article");
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("반환된 아티클을 수정해도 캐시는 변경되지 않음 테스트")
+    void get_ReturnsCopy() {
+        ArticleCache cache = new ArticleCache(new PrimaryReads(null, false), true, 1024 * 1024, Duration.ofMinutes(5));
+
+        cache.get("article", loader).setTitle("Modified");
+
+        assertThat(cache.get("article", loader).getTitle()).isEqualTo("Title");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 아티클은 캐시하지 않음 테스트")
+    void get_NullNotCached() {
+        ArticleCache cache = new ArticleCache(new PrimaryReads(null, false), true, 1024 * 1024, Duration.ofMinutes(5));
+
+        assertThat(cache.get("missing-article", loader)).isNull();
+        assertThat(cache.get("missing-article", loader)).isNull();
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수정/즐겨찾기 수 반영 이벤트로 무효화 테스트")
+    void events_Invalidate() {
+        ArticleCache cache = new ArticleCache(new PrimaryReads(null, false), true, 1024 * 1024, Duration.ofMinutes(5));
+        Article article = cache.get("article", loader);
+
+        cache.onArticleUpdated(new ArticleUpdatedEvent(article));
+        cache.get("article", loader);
+        cache.onFavoritesCountsFlushed(new FavoritesCountsFlushedEvent(List.of("article")));
+        cache.get("article", loader);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 시 항상 loader 호출 테스트")
+    void disabled_AlwaysLoads() {
+        ArticleCache cache = new ArticleCache(new PrimaryReads(null, false), false, 0, Duration.ZERO);
+
+        cache.get("article", loader);
+        cache.get("article", loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+}
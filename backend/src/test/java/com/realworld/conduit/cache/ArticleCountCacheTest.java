@@ -0,0 +1,73 @@
+package com.realworld.conduit.cache;
+
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.ArticleTagsChangedEvent;
+import com.realworld.conduit.model.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArticleCountCacheTest {
+
+    private final ArticleCountCache cache = new ArticleCountCache(true, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("TTL 동안 필터별 COUNT는 한 번만 실행 테스트")
+    void count_LoadsOncePerFilter() {
+        AtomicInteger queries = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            cache.countByTag("java", () -> {
+                queries.incrementAndGet();
+                return 7;
+            });
+        }
+        int count = cache.countByAuthor("john", () -> {
+            queries.incrementAndGet();
+            return 3;
+        });
+
+        assertThat(count).isEqualTo(3);
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아티클 생성/삭제 시 전체 및 작성자 개수 무효화 테스트")
+    void articleEvents_InvalidateAllAndAuthor() {
+        Article article = new Article();
+        article.setAuthorUsername("john");
+        cache.countAll(() -> 10);
+        cache.countByAuthor("john", () -> 3);
+        cache.countByAuthor("jane", () -> 5);
+
+        cache.onArticleCreated(new ArticleCreatedEvent(article));
+
+        assertThat(cache.countAll(() -> 11)).isEqualTo(11);
+        assertThat(cache.countByAuthor("john", () -> 4)).isEqualTo(4);
+        assertThat(cache.countByAuthor("jane", () -> 99)).isEqualTo(5);
+
+        cache.onArticleDeleted(new ArticleDeletedEvent(article));
+
+        assertThat(cache.countAll(() -> 10)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("태그 변경 시 해당 태그 개수만 무효화 테스트")
+    void tagEvents_InvalidateChangedTags() {
+        cache.countByTag("java", () -> 7);
+        cache.countByTag("kotlin", () -> 2);
+        cache.countByTag("go", () -> 1);
+
+        cache.onArticleTagsChanged(new ArticleTagsChangedEvent(1L, List.of("kotlin"), List.of("java")));
+
+        assertThat(cache.countByTag("java", () -> 6)).isEqualTo(6);
+        assertThat(cache.countByTag("kotlin", () -> 3)).isEqualTo(3);
+        assertThat(cache.countByTag("go", () -> 99)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.realworld.conduit.cache;
+
+import com.realworld.conduit.config.PrimaryReads;
+import com.realworld.conduit.event.ArticleFavoriteChangedEvent;
+import com.realworld.conduit.mapper.ArticleFavoriteMapper;
+import com.realworld.conduit.model.Article;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FavoritesBitmapCacheTest {
+
+    @Mock
+    private ArticleFavoriteMapper articleFavoriteMapper;
+
+    private FavoritesBitmapCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FavoritesBitmapCache(articleFavoriteMapper, new PrimaryReads(null, false), true, 1024 * 1024, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("처음 한 번만 로드하고 이후 상세/목록 판정은 메모리에서 처리 테스트")
+    void favorited_LoadsOncePerUser() {
+        // given
+        when(articleFavoriteMapper.findArticleIdsByUserId(1L)).thenReturn(List.of(3L, 7L, 42L));
+
+        // when
+        boolean favorited = cache.isFavorited(1L, 7L);
+        boolean notFavorited = cache.isFavorited(1L, 8L);
+
+        // then
+        assertThat(favorited).isTrue();
+        assertThat(notFavorited).isFalse();
+        assertThat(cache.favoritedAmong(1L, List.of(1L, 3L, 42L, 100L))).containsExactlyInAnyOrder(3L, 42L);
+        verify(articleFavoriteMapper, times(1)).findArticleIdsByUserId(1L);
+        verify(articleFavoriteMapper, never()).isFavorited(any(), any());
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 추가/취소 이벤트를 적재된 비트맵에 반영 테스트")
+    void favoriteChanged_UpdatesLoadedBitmap() {
+        // given
+        when(articleFavoriteMapper.findArticleIdsByUserId(1L)).thenReturn(List.of(3L));
+        cache.isFavorited(1L, 3L);
+
+        // when
+        cache.onArticleFavoriteChanged(new ArticleFavoriteChangedEvent(article(5L), 1L, true));
+        cache.onArticleFavoriteChanged(new ArticleFavoriteChangedEvent(article(3L), 1L, false));
+
+        // then
+        assertThat(cache.isFavorited(1L, 5L)).isTrue();
+        assertThat(cache.isFavorited(1L, 3L)).isFalse();
+        verify(articleFavoriteMapper, times(1)).findArticleIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 사용자의 변경 이벤트는 무시하고 다음 조회 때 DB에서 로드 테스트")
+    void favoriteChanged_IgnoresUnloadedUser() {
+        // given
+        cache.onArticleFavoriteChanged(new ArticleFavoriteChangedEvent(article(5L), 2L, true));
+        when(articleFavoriteMapper.findArticleIdsByUserId(2L)).thenReturn(List.of(5L));
+
+        // when & then
+        assertThat(cache.isFavorited(2L, 5L)).isTrue();
+        assertThat(cache.usage().entries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("항목별 메모리 사용량 보고 - 연속 id는 run 컨테이너로 압축 테스트")
+    void usage_ReportsBytesPerEntry() {
+        // given
+        when(articleFavoriteMapper.findArticleIdsByUserId(1L))
+                .thenReturn(LongStream.rangeClosed(1, 10_000).boxed().toList());
+        when(articleFavoriteMapper.findArticleIdsByUserId(2L)).thenReturn(List.of(1L, 500_000L));
+        cache.isFavorited(1L, 1L);
+        cache.isFavorited(2L, 1L);
+
+        // when
+        FavoritesBitmapCache.Usage usage = cache.usage();
+
+        // then
+        assertThat(usage.entries()).isEqualTo(2);
+        assertThat(usage.totalBytes()).isEqualTo(cache.estimatedBytes(1L) + cache.estimatedBytes(2L));
+        assertThat(usage.averageBytesPerEntry()).isEqualTo(usage.totalBytes() / 2);
+        // 1만 개 연속 id도 수십 바이트 수준 (Set<Long>이면 수백 KB)
+        assertThat(cache.estimatedBytes(1L)).isLessThan(256);
+        assertThat(cache.estimatedBytes(3L)).isZero();
+    }
+
+    private static Article article(Long id) {
+        Article article = new Article();
+        article.setId(id);
+        return article;
+    }
+}
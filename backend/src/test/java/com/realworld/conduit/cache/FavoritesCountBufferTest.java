@@ -0,0 +1,196 @@
+package com.realworld.conduit.cache;
+
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.FavoritesCountsFlushedEvent;
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.model.Article;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FavoritesCountBufferTest {
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private FavoritesCountBuffer buffer;
+
+    private final Article hot = article(1L, "hot-article");
+
+    @BeforeEach
+    void setUp() {
+        buffer = new FavoritesCountBuffer(articleMapper, eventPublisher, true, 2);
+    }
+
+    @Test
+    @DisplayName("한 아티클에 동시에 몰린 증감분을 모두 누적하고 한 번의 UPDATE로 반영 테스트")
+    void add_HotKeyStormFlushedOnce() throws InterruptedException {
+        // given
+        int threads = 16;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < perThread; j++) {
+                        buffer.add(hot, 1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // when
+        assertThat(buffer.currentCount(1L, 5)).isEqualTo(5 + threads * perThread);
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        verify(articleMapper).addFavoritesCounts(Map.of(1L, (long) threads * perThread));
+        verify(articleMapper, never()).updateFavoritesCount(any(), anyInt());
+        verify(eventPublisher).publishEvent(new FavoritesCountsFlushedEvent(List.of("hot-article")));
+        assertThat(buffer.pendingDelta(1L)).isZero();
+        assertThat(buffer.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 중 들어온 증감분은 유실되지 않고 다음 주기에 반영 테스트")
+    void flush_KeepsDeltasAddedDuringUpdate() {
+        // given
+        buffer.add(hot, 3);
+        doAnswer(invocation -> {
+            buffer.add(hot, 1);
+            return 1;
+        }).when(articleMapper).addFavoritesCounts(Map.of(1L, 3L));
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.pendingDelta(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UPDATE 실패 시 누적분을 유지하고 다음 주기에 재시도 테스트")
+    void flush_RetriesAfterFailure() {
+        // given
+        buffer.add(hot, 2);
+        when(articleMapper.addFavoritesCounts(anyMap()))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenReturn(1);
+
+        // when
+        int first = buffer.flush();
+        long pendingAfterFailure = buffer.pendingDelta(1L);
+        int second = buffer.flush();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(pendingAfterFailure).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(buffer.pendingDelta(1L)).isZero();
+        verify(eventPublisher, times(1)).publishEvent(any(FavoritesCountsFlushedEvent.class));
+    }
+
+    @Test
+    @DisplayName("여러 아티클은 배치 크기 단위 UPDATE로 나누어 반영, 상쇄된 아티클은 제외 테스트")
+    void flush_SplitsIntoBatches() {
+        // given
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        when(articleMapper.addFavoritesCounts(anyMap())).thenAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            batches.add(new HashMap<>(deltas));
+            return 0;
+        });
+        buffer.add(article(1L, "a"), 1);
+        buffer.add(article(2L, "b"), 2);
+        buffer.add(article(3L, "c"), -1);
+        buffer.add(article(4L, "d"), 1);
+        buffer.add(article(4L, "d"), -1);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(3);
+        assertThat(batches).extracting(Map::size).containsExactly(2, 1);
+        Map<Long, Long> merged = new HashMap<>();
+        batches.forEach(merged::putAll);
+        assertThat(merged).isEqualTo(Map.of(1L, 1L, 2L, 2L, 3L, -1L));
+    }
+
+    @Test
+    @DisplayName("저장값과 미반영 증감분 합은 0 미만이 되지 않음 테스트")
+    void currentCount_NeverNegative() {
+        buffer.add(hot, -3);
+
+        assertThat(buffer.currentCount(1L, 1)).isZero();
+        assertThat(buffer.currentCount(2L, 7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 증감분 반영, 삭제된 아티클은 버림 테스트")
+    void flushOnShutdown_FlushesRemaining() {
+        // given
+        Article deleted = article(2L, "deleted-article");
+        buffer.add(hot, 1);
+        buffer.add(deleted, 1);
+        buffer.onArticleDeleted(new ArticleDeletedEvent(deleted));
+
+        // when
+        buffer.flushOnShutdown();
+
+        // then
+        verify(articleMapper).addFavoritesCounts(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("write-behind 비활성화 시 바로 UPDATE 테스트")
+    void disabled_WritesThrough() {
+        FavoritesCountBuffer disabled = new FavoritesCountBuffer(articleMapper, eventPublisher, false, 500);
+
+        disabled.add(hot, 1);
+
+        verify(articleMapper).updateFavoritesCount(1L, 1);
+        verify(eventPublisher).publishEvent(new FavoritesCountsFlushedEvent(List.of("hot-article")));
+        assertThat(disabled.pendingDelta(1L)).isZero();
+    }
+
+    private static Article article(Long id, String slug) {
+        Article article = new Article();
+        article.setId(id);
+        article.setSlug(slug);
+        return article;
+    }
+}
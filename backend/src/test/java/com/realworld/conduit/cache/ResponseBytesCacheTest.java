@@ -0,0 +1,114 @@
+package com.realworld.conduit.cache;
+
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.FavoritesCountsFlushedEvent;
+import com.realworld.conduit.event.UserUpdatedEvent;
+import com.realworld.conduit.model.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResponseBytesCacheTest {
+
+    private static final byte[] BODY = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+
+    private final ResponseBytesCache cache = new ResponseBytesCache(true, 1024 * 1024, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("저장한 응답은 원본과 gzip 바이트로 함께 조회 테스트")
+    void put_StoresRawAndGzippedBytes() throws IOException {
+        String key = ResponseBytesCache.articleKey("test-article");
+
+        cache.put(key, cache.generation(), BODY, "application/json", "\"abc\"");
+
+        ResponseBytesCache.CachedResponse cached = cache.get(key);
+        assertThat(cached.body()).isEqualTo(BODY);
+        assertThat(cached.etag()).isEqualTo("\"abc\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.gzippedBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    @DisplayName("응답 생성 중 무효화가 있었으면 저장하지 않음 테스트")
+    void put_SkipsWhenInvalidatedDuringRender() {
+        String key = ResponseBytesCache.articleKey("test-article");
+        long generation = cache.generation();
+
+        cache.onFavoritesCountsFlushed(new FavoritesCountsFlushedEvent(List.of("test-article")));
+        cache.put(key, generation, BODY, "application/json", null);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 수 반영은 해당 상세와 목록만 무효화 테스트")
+    void favoritesFlushed_InvalidatesArticleAndLists() {
+        String target = ResponseBytesCache.articleKey("test-article");
+        String other = ResponseBytesCache.articleKey("other-article");
+        String list = ResponseBytesCache.listKey("limit=20");
+        cache.put(target, cache.generation(), BODY, "application/json", null);
+        cache.put(other, cache.generation(), BODY, "application/json", null);
+        cache.put(list, cache.generation(), BODY, "application/json", null);
+
+        cache.onFavoritesCountsFlushed(new FavoritesCountsFlushedEvent(List.of("test-article")));
+
+        assertThat(cache.get(target)).isNull();
+        assertThat(cache.get(list)).isNull();
+        assertThat(cache.get(other)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("아티클 생성은 목록만 무효화 테스트")
+    void articleCreated_InvalidatesListsOnly() {
+        String detail = ResponseBytesCache.articleKey("test-article");
+        String list = ResponseBytesCache.listKey(null);
+        cache.put(detail, cache.generation(), BODY, "application/json", null);
+        cache.put(list, cache.generation(), BODY, "application/json", null);
+
+        cache.onArticleCreated(new ArticleCreatedEvent(article("new-article")));
+
+        assertThat(cache.get(list)).isNull();
+        assertThat(cache.get(detail)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("프로필 수정은 상세와 목록 모두 무효화 테스트")
+    void userUpdated_InvalidatesAll() {
+        String detail = ResponseBytesCache.articleKey("test-article");
+        String list = ResponseBytesCache.listKey(null);
+        cache.put(detail, cache.generation(), BODY, "application/json", null);
+        cache.put(list, cache.generation(), BODY, "application/json", null);
+
+        cache.onUserUpdated(new UserUpdatedEvent(1L, "renamed"));
+
+        assertThat(cache.get(detail)).isNull();
+        assertThat(cache.get(list)).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 항상 미스 테스트")
+    void disabled_AlwaysMisses() {
+        ResponseBytesCache disabled = new ResponseBytesCache(false, 0, Duration.ZERO);
+        String key = ResponseBytesCache.articleKey("test-article");
+
+        disabled.put(key, disabled.generation(), BODY, "application/json", null);
+
+        assertThat(disabled.get(key)).isNull();
+    }
+
+    private static Article article(String slug) {
+        Article article = new Article();
+        article.setId(1L);
+        article.setSlug(slug);
+        return article;
+    }
+}
@@ -0,0 +1,185 @@
+package com.realworld.conduit.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 내장 H2 두 개를 원본/복제본으로 두고 라우팅 확인
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private EmbeddedDatabase primaryDb;
+    private EmbeddedDatabase replicaDb;
+    private SwitchableDataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+    private PrimaryReads primaryReads;
+
+    @BeforeEach
+    void setUp() {
+        primaryDb = embeddedDatabase("primary");
+        replicaDb = embeddedDatabase("replica");
+        replica = new SwitchableDataSource(replicaDb);
+        routing = new ReplicaRoutingDataSource(primaryDb, replica, 1);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        primaryReads = new PrimaryReads(transactionManager, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryDb.shutdown();
+        replicaDb.shutdown();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 원본으로 라우팅 테스트")
+    void routesByTransactionReadOnlyFlag() {
+        // when
+        String readOnlyRole = readOnlyTx.execute(status -> currentRole());
+        String writeRole = writeTx.execute(status -> currentRole());
+        String nonTransactionalRole = currentRole();
+
+        // then
+        assertThat(readOnlyRole).isEqualTo("replica");
+        assertThat(writeRole).isEqualTo("primary");
+        assertThat(nonTransactionalRole).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기는 원본에만 반영되고 복제본에는 반영되지 않음 테스트")
+    void writesGoToPrimary() {
+        // when
+        writeTx.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO notes (body) VALUES ('hello')"));
+
+        // then
+        assertThat(count(primaryDb)).isEqualTo(1);
+        assertThat(count(replicaDb)).isZero();
+    }
+
+    @Test
+    @DisplayName("복제본 커넥션 획득 실패 시 원본으로 대체하고 복제본을 비정상으로 표시 테스트")
+    void fallsBackToPrimaryWhenReplicaDown() {
+        // given
+        replica.setDown(true);
+
+        // when
+        String role = readOnlyTx.execute(status -> currentRole());
+
+        // then
+        assertThat(role).isEqualTo("primary");
+        assertThat(routing.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상태 점검 성공 시 읽기 전용 트랜잭션을 다시 복제본으로 라우팅 테스트")
+    void checkReplica_RestoresReplicaRoute() {
+        // given
+        replica.setDown(true);
+        assertThat(routing.checkReplica()).isFalse();
+        String roleWhileDown = readOnlyTx.execute(status -> currentRole());
+        assertThat(roleWhileDown).isEqualTo("primary");
+
+        // when
+        replica.setDown(false);
+        boolean available = routing.checkReplica();
+        String roleAfterRecovery = readOnlyTx.execute(status -> currentRole());
+
+        // then
+        assertThat(available).isTrue();
+        assertThat(roleAfterRecovery).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 안의 캐시 로더는 복제본 커넥션을 잡은 뒤에도 원본에서 조회 테스트")
+    void primaryReads_LoadsFromPrimaryInsideReadOnlyTransaction() {
+        // when
+        String[] roles = readOnlyTx.execute(status -> new String[] {
+                currentRole(),
+                primaryReads.load(this::currentRole),
+                currentRole()
+        });
+
+        // then
+        assertThat(roles).containsExactly("replica", "primary", "replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안의 캐시 로더는 보류 없이 같은 원본 트랜잭션에서 조회 테스트")
+    void primaryReads_RunsInlineInsideWriteTransaction() {
+        // when
+        Integer count = writeTx.execute(status -> {
+            jdbcTemplate.update("INSERT INTO notes (body) VALUES ('uncommitted')");
+            return primaryReads.load(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notes", Integer.class));
+        });
+
+        // then
+        assertThat(count).isEqualTo(1);
+    }
+
+    private String currentRole() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class);
+    }
+
+    private static int count(EmbeddedDatabase database) {
+        Integer count = new JdbcTemplate(database).queryForObject("SELECT COUNT(*) FROM notes", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private static EmbeddedDatabase embeddedDatabase(String role) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE db_role (name VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE notes (id BIGINT AUTO_INCREMENT PRIMARY KEY, body VARCHAR(100))");
+        jdbcTemplate.update("INSERT INTO db_role (name) VALUES (?)", role);
+        return database;
+    }
+
+    // 커넥션 획득 실패를 흉내 내는 복제본
+    private static class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        SwitchableDataSource(EmbeddedDatabase target) {
+            super(target);
+        }
+
+        void setDown(boolean down) {
+            this.down = down;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("replica unreachable");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.realworld.conduit.controller;
+
+import com.realworld.conduit.cache.FavoritesBitmapCache;
+import com.realworld.conduit.dto.ApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminCacheControllerTest {
+
+    @Mock
+    private FavoritesBitmapCache favoritesBitmapCache;
+
+    @InjectMocks
+    private AdminCacheController adminCacheController;
+
+    @Test
+    @DisplayName("즐겨찾기 비트맵 사용량 조회 API 테스트 - 항목당 평균과 예상 사용자 수 산정치")
+    void getFavoritesBitmapUsage() {
+        // given
+        when(favoritesBitmapCache.isEnabled()).thenReturn(true);
+        when(favoritesBitmapCache.usage()).thenReturn(new FavoritesBitmapCache.Usage(4, 800, 200));
+        when(favoritesBitmapCache.estimatedBytes(7L)).thenReturn(150L);
+
+        // when
+        ResponseEntity<ApiResponse<Map<String, Object>>> response =
+                adminCacheController.getFavoritesBitmapUsage(7L, 1_000_000L);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getData())
+                .containsEntry("entries", 4L)
+                .containsEntry("averageBytesPerEntry", 200L)
+                .containsEntry("projectedBytes", 200_000_000L)
+                .containsEntry("userBytes", 150L);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 비트맵 사용량 조회 API 테스트 - 잘못된 예상 사용자 수")
+    void getFavoritesBitmapUsage_InvalidProjectedUsers() {
+        ResponseEntity<ApiResponse<Map<String, Object>>> response =
+                adminCacheController.getFavoritesBitmapUsage(null, 0);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(favoritesBitmapCache);
+    }
+}
@@ -1,9 +1,25 @@
 package com.realworld.conduit.controller;
 
+import com.realworld.conduit.cache.ArticleCache;
+import com.realworld.conduit.cache.ArticleCountCache;
+import com.realworld.conduit.cache.FavoritesBitmapCache;
+import com.realworld.conduit.cache.FavoritesCountBuffer;
+import com.realworld.conduit.config.PrimaryReads;
+import com.realworld.conduit.dto.ApiResponse;
 import com.realworld.conduit.dto.ArticleRequest;
 import com.realworld.conduit.dto.ArticleResponse;
-import com.realworld.conduit.dto.ArticleResponse.AuthorResponse;
+import com.realworld.conduit.dto.ArticleSummaryResponse;
+import com.realworld.conduit.dto.ArticleSummaryResponse.AuthorResponse;
+import com.realworld.conduit.event.UserUpdatedEvent;
+import com.realworld.conduit.mapper.ArticleFavoriteMapper;
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.mapper.ArticleTagMapper;
+import com.realworld.conduit.mapper.TagMapper;
+import com.realworld.conduit.mapper.UserMapper;
+import com.realworld.conduit.model.Article;
 import com.realworld.conduit.service.ArticleService;
+import com.realworld.conduit.service.FeedService;
+import com.realworld.conduit.util.ArticleCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,13 +27,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +49,9 @@ class ArticleControllerTest {
     @Mock
     private ArticleService articleService;
     
+    @Mock
+    private FeedService feedService;
+    
     @Mock
     private Authentication authentication;
     
@@ -60,6 +83,15 @@ class ArticleControllerTest {
         sampleResponse.setUpdatedAt(LocalDateTime.now());
     }
 
+    private Article sampleArticle() {
+        Article article = new Article();
+        article.setId(1L);
+        article.setSlug("test-article");
+        article.setAuthorUsername("testuser");
+        article.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        return article;
+    }
+
     @Test
     @DisplayName("아티클 생성 API 테스트 - 성공")
     void createArticle_Success() {
@@ -80,26 +112,137 @@ class ArticleControllerTest {
     @DisplayName("아티클 조회 API 테스트 - 성공")
     void getArticle_Success() {
         // given
-        when(articleService.getArticle("test-article")).thenReturn(sampleResponse);
+        when(articleService.getArticleModelBySlug("test-article")).thenReturn(sampleArticle());
+        when(articleService.getTagNames(1L)).thenReturn(List.of("java"));
+
+        // when
+        ResponseEntity<ApiResponse<Map<String, ArticleResponse>>> response =
+                articleController.getArticle("test-article", null, null);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotNull();
+        assertThat(response.getBody().getData().get("article").getTagList()).containsExactly("java");
+        // 이미 조회한 모델로 응답을 만들므로 아티클을 다시 조회하지 않음
+        verify(articleService, never()).getArticle(anyString());
+    }
+
+    @Test
+    @DisplayName("아티클 조회 API 테스트 - ETag 일치 시 304")
+    void getArticle_NotModified() {
+        // given
+        when(articleService.getArticleModelBySlug("test-article")).thenReturn(sampleArticle());
+        when(articleService.getTagNames(1L)).thenReturn(List.of("java"));
+        String etag = articleController.getArticle("test-article", null, null).getHeaders().getETag();
+
+        // when
+        ResponseEntity<?> response = articleController.getArticle("test-article", etag, null);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("아티클 조회 API 테스트 - 수정되면 ETag 변경")
+    void getArticle_ETagChangesAfterUpdate() {
+        // given
+        Article article = sampleArticle();
+        when(articleService.getArticleModelBySlug("test-article")).thenReturn(article);
+        when(articleService.getTagNames(1L)).thenReturn(List.of("java"));
+        String etag = articleController.getArticle("test-article", null, null).getHeaders().getETag();
+        article.setUpdatedAt(article.getUpdatedAt().plusSeconds(1));
 
         // when
-        ResponseEntity<?> response = articleController.getArticle("test-article", authentication);
+        ResponseEntity<?> response = articleController.getArticle("test-article", etag, null);
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        verify(articleService).getArticle("test-article");
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("아티클 조회 API 테스트 - 같은 초 안에 본문/태그만 수정되어도 ETag 변경")
+    void getArticle_ETagChangesWithinSameSecond() {
+        // given: updated_at은 초 단위로 같음
+        Article article = sampleArticle();
+        article.setBody("first body");
+        when(articleService.getArticleModelBySlug("test-article")).thenReturn(article);
+        when(articleService.getTagNames(1L)).thenReturn(List.of("java"), List.of("java"), List.of("java", "spring"));
+        String original = articleController.getArticle("test-article", null, null).getHeaders().getETag();
+
+        // when
+        article.setBody("second body");
+        String bodyChanged = articleController.getArticle("test-article", original, null).getHeaders().getETag();
+        String tagsChanged = articleController.getArticle("test-article", bodyChanged, null).getHeaders().getETag();
+
+        // then
+        assertThat(bodyChanged).isNotEqualTo(original);
+        assertThat(tagsChanged).isNotEqualTo(bodyChanged);
+    }
+
+    @Test
+    @DisplayName("아티클 조회 API 테스트 - 작성자 프로필 수정 후 캐시된 작성자 정보 대신 새 정보 응답")
+    void getArticle_ReflectsAuthorProfileUpdate() {
+        // given: 캐시를 켠 실제 서비스로 한 번 조회해 작성자 정보를 캐시
+        ArticleMapper articleMapper = mock(ArticleMapper.class);
+        TagMapper tagMapper = mock(TagMapper.class);
+        ArticleCache articleCache = new ArticleCache(new PrimaryReads(null, false), true, 1024 * 1024, Duration.ofMinutes(5));
+        ArticleService service = new ArticleService(articleMapper, mock(ArticleFavoriteMapper.class),
+                mock(ArticleTagMapper.class), tagMapper, mock(UserMapper.class), articleCache,
+                new ArticleCountCache(false, Duration.ZERO), mock(FavoritesCountBuffer.class),
+                new FavoritesBitmapCache(null, new PrimaryReads(null, false), false, 0, Duration.ZERO),
+                mock(ApplicationEventPublisher.class));
+        ArticleController controller = new ArticleController(service, feedService);
+
+        Article before = sampleArticle();
+        before.setAuthorId(1L);
+        before.setAuthorBio("old bio");
+        Article after = sampleArticle();
+        after.setAuthorId(1L);
+        after.setAuthorUsername("renamed");
+        after.setAuthorBio("new bio");
+        when(articleMapper.findBySlug("test-article")).thenReturn(before, after);
+        when(tagMapper.findTagsByArticleId(1L)).thenReturn(List.of());
+
+        ResponseEntity<ApiResponse<Map<String, ArticleResponse>>> first = controller.getArticle("test-article", null, null);
+        String etag = first.getHeaders().getETag();
+
+        // when
+        articleCache.onUserUpdated(new UserUpdatedEvent(1L, "renamed"));
+        ResponseEntity<ApiResponse<Map<String, ArticleResponse>>> second = controller.getArticle("test-article", etag, null);
+
+        // then
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getHeaders().getETag()).isNotEqualTo(etag);
+        AuthorResponse author = second.getBody().getData().get("article").getAuthor();
+        assertThat(author.getUsername()).isEqualTo("renamed");
+        assertThat(author.getBio()).isEqualTo("new bio");
+        verify(articleMapper, times(2)).findBySlug("test-article");
+    }
+
+    @Test
+    @DisplayName("아티클 조회 API 테스트 - 존재하지 않는 아티클")
+    void getArticle_NotFound() {
+        // when
+        ResponseEntity<?> response = articleController.getArticle("missing", null, null);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        verify(articleService, never()).getArticle(anyString());
     }
 
     @Test
     @DisplayName("아티클 목록 조회 API 테스트 - 성공")
     void getArticles_Success() {
         // given
-        List<ArticleResponse> articles = Arrays.asList(sampleResponse);
+        List<ArticleSummaryResponse> articles = Arrays.asList(sampleResponse);
         when(articleService.getArticles(0, 20)).thenReturn(articles);
         when(articleService.getTotalArticlesCount()).thenReturn(1);
 
         // when
-        ResponseEntity<?> response = articleController.getArticles(0, 20, null, null, authentication);
+        ResponseEntity<?> response = articleController.getArticles(0, 20, null, null, null, false, null, authentication);
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -107,6 +250,195 @@ class ArticleControllerTest {
         verify(articleService).getTotalArticlesCount();
     }
 
+    @Test
+    @DisplayName("아티클 목록 조회 API 테스트 - ETag 일치 시 304")
+    void getArticles_NotModified() {
+        // given
+        sampleResponse.setId(1L);
+        List<ArticleSummaryResponse> articles = Arrays.asList(sampleResponse);
+        when(articleService.getArticles(0, 20)).thenReturn(articles);
+        when(articleService.getTotalArticlesCount()).thenReturn(1);
+        String etag = articleController.getArticles(0, 20, null, null, null, false, null, null).getHeaders().getETag();
+
+        // when
+        ResponseEntity<?> response = articleController.getArticles(0, 20, null, null, null, false, etag, null);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("아티클 목록 조회 API 테스트 - 같은 초 안에 제목/본문만 수정되어도 ETag 변경")
+    void getArticles_ETagChangesWithinSameSecond() {
+        // given: updated_at은 그대로
+        sampleResponse.setId(1L);
+        List<ArticleSummaryResponse> articles = Arrays.asList(sampleResponse);
+        when(articleService.getArticles(0, 20)).thenReturn(articles);
+        when(articleService.getTotalArticlesCount()).thenReturn(1);
+        String original = articleController.getArticles(0, 20, null, null, null, false, null, null).getHeaders().getETag();
+
+        // when
+        sampleResponse.setTitle("Edited Title");
+        String titleChanged = articleController.getArticles(0, 20, null, null, null, false, original, null).getHeaders().getETag();
+        sampleResponse.setBody("Edited Body");
+        String bodyChanged = articleController.getArticles(0, 20, null, null, null, false, titleChanged, null).getHeaders().getETag();
+
+        // then
+        assertThat(titleChanged).isNotEqualTo(original);
+        assertThat(bodyChanged).isNotEqualTo(titleChanged);
+    }
+
+    @Test
+    @DisplayName("아티클 목록 조회 API 테스트 - 인증 사용자 즐겨찾기 여부 일괄 설정")
+    void getArticles_AuthenticatedSetsFavorited() {
+        // given
+        sampleResponse.setId(1L);
+        ArticleResponse otherResponse = new ArticleResponse();
+        otherResponse.setId(2L);
+        otherResponse.setSlug("other-article");
+
+        List<ArticleSummaryResponse> articles = Arrays.asList(sampleResponse, otherResponse);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getName()).thenReturn("test@example.com");
+        when(articleService.getArticles(0, 20)).thenReturn(articles);
+        when(articleService.getTotalArticlesCount()).thenReturn(2);
+        when(articleService.getFavoritedArticleIds(Arrays.asList(1L, 2L), "test@example.com"))
+                .thenReturn(Set.of(2L));
+
+        // when
+        ResponseEntity<?> response = articleController.getArticles(0, 20, null, null, null, false, null, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(sampleResponse.isFavorited()).isFalse();
+        assertThat(otherResponse.isFavorited()).isTrue();
+        verify(articleService).getFavoritedArticleIds(Arrays.asList(1L, 2L), "test@example.com");
+        verify(articleService, never()).getArticleIdBySlug(anyString());
+        verify(articleService, never()).isFavorited(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("태그 필터 아티클 목록 조회 API 테스트 - 정확한 전체 개수")
+    void getArticles_ByTag() {
+        // given
+        sampleResponse.setId(1L);
+        List<ArticleSummaryResponse> articles = Arrays.asList(sampleResponse);
+        when(articleService.getArticlesByTag("java", 0, 1)).thenReturn(articles);
+        when(articleService.getArticlesCountByTag("java")).thenReturn(7);
+
+        // when
+        ResponseEntity<?> response = articleController.getArticles(0, 1, null, null, "java", false, null, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        @SuppressWarnings("unchecked")
+        ApiResponse<Map<String, Object>> body = (ApiResponse<Map<String, Object>>) response.getBody();
+        assertThat(body.getData()).containsEntry("articlesCount", 7);
+        verify(articleService).getArticlesCountByTag("java");
+    }
+
+    @Test
+    @DisplayName("아티클 목록 조회 API 테스트 - 작성자 필터 전체 개수")
+    void getArticles_ByAuthor() {
+        // given
+        sampleResponse.setId(1L);
+        List<ArticleSummaryResponse> articles = Arrays.asList(sampleResponse);
+        when(articleService.getArticlesByAuthor("testuser", 0, 1)).thenReturn(articles);
+        when(articleService.getArticlesCountByAuthor("testuser")).thenReturn(12);
+
+        // when
+        ResponseEntity<?> response = articleController.getArticles(0, 1, null, "testuser", null, false, null, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        @SuppressWarnings("unchecked")
+        ApiResponse<Map<String, Object>> body = (ApiResponse<Map<String, Object>>) response.getBody();
+        assertThat(body.getData()).containsEntry("articlesCount", 12);
+        verify(articleService).getArticlesCountByAuthor("testuser");
+    }
+
+    @Test
+    @DisplayName("아티클 목록 조회 API 테스트 - 커서 페이지네이션")
+    void getArticles_WithCursor() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new ArticleCursor(createdAt, 10L).encode();
+        List<ArticleSummaryResponse> articles = Arrays.asList(sampleResponse);
+        when(articleService.getArticles(any(ArticleCursor.class), eq(20))).thenReturn(articles);
+        when(articleService.getTotalArticlesCount()).thenReturn(1);
+
+        // when
+        ResponseEntity<?> response = articleController.getArticles(0, 20, cursor, null, null, false, null, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(articleService).getArticles(argThat((ArticleCursor c) -> c.getId().equals(10L) && c.getCreatedAt().equals(createdAt)), eq(20));
+        verify(articleService, never()).getArticles(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("아티클 목록 조회 API 테스트 - 잘못된 커서")
+    void getArticles_InvalidCursor() {
+        // when
+        ResponseEntity<?> response = articleController.getArticles(0, 20, "not-a-cursor", null, null, false, null, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(articleService);
+    }
+
+    @Test
+    @DisplayName("아티클 목록 조회 API 테스트 - 본문 포함 옵션")
+    void getArticles_IncludeBody() {
+        // given
+        List<ArticleSummaryResponse> summaries = Arrays.asList(sampleResponse);
+        when(articleService.getArticles(0, 20)).thenReturn(summaries);
+        when(articleService.getTotalArticlesCount()).thenReturn(1);
+        when(articleService.withBodies(summaries)).thenReturn(summaries);
+
+        // when
+        ResponseEntity<?> response = articleController.getArticles(0, 20, null, null, null, true, null, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(articleService).withBodies(summaries);
+    }
+
+    @Test
+    @DisplayName("피드 조회 API 테스트 - 성공")
+    void getFeed_Success() {
+        // given
+        sampleResponse.setId(1L);
+        List<ArticleSummaryResponse> articles = Arrays.asList(sampleResponse);
+        when(authentication.getName()).thenReturn("test@example.com");
+        when(feedService.getFeed("test@example.com", null, 20)).thenReturn(articles);
+        when(articleService.getFavoritedArticleIds(List.of(1L), "test@example.com")).thenReturn(Set.of(1L));
+
+        // when
+        ResponseEntity<?> response = articleController.getFeed(20, null, null, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(sampleResponse.isFavorited()).isTrue();
+        verify(feedService).getFeed("test@example.com", null, 20);
+    }
+
+    @Test
+    @DisplayName("피드 조회 API 테스트 - 사용자 없음")
+    void getFeed_UserNotFound() {
+        // given
+        when(authentication.getName()).thenReturn("missing@example.com");
+        when(feedService.getFeed("missing@example.com", null, 20))
+                .thenThrow(new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        // when
+        ResponseEntity<?> response = articleController.getFeed(20, null, null, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     @DisplayName("아티클 수정 API 테스트 - 성공")
     void updateArticle_Success() {
@@ -121,6 +453,7 @@ class ArticleControllerTest {
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         verify(articleService).updateArticle(eq("test-article"), any(ArticleRequest.class), eq("test@example.com"));
+        verify(articleService, never()).getArticleIdBySlug(anyString());
     }
 
     @Test
@@ -0,0 +1,68 @@
+package com.realworld.conduit.controller;
+
+import com.realworld.conduit.search.ArticleSearchService;
+import com.realworld.conduit.search.SearchDocument;
+import com.realworld.conduit.search.SearchHit;
+import com.realworld.conduit.search.SearchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchControllerTest {
+
+    @Mock
+    private ArticleSearchService articleSearchService;
+
+    @InjectMocks
+    private ArticleSearchController articleSearchController;
+
+    @Test
+    @DisplayName("아티클 검색 API 테스트 - 성공")
+    void searchArticles_Success() {
+        // given
+        SearchDocument document = new SearchDocument(1L, "spring-guide", "Spring Guide", "desc", 1L, "testuser", LocalDateTime.now());
+        when(articleSearchService.search("spring", 0, 20))
+                .thenReturn(new SearchResult(List.of(new SearchHit(document, 1.5)), 1));
+
+        // when
+        ResponseEntity<?> response = articleSearchController.searchArticles("spring", 0, 20);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(articleSearchService).search("spring", 0, 20);
+    }
+
+    @Test
+    @DisplayName("아티클 검색 API 테스트 - 검색어 누락")
+    void searchArticles_BlankQuery() {
+        // when
+        ResponseEntity<?> response = articleSearchController.searchArticles("  ", 0, 20);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(articleSearchService);
+    }
+
+    @Test
+    @DisplayName("아티클 검색 API 테스트 - 예상하지 못한 예외는 400으로 바꾸지 않고 전파")
+    void searchArticles_UnexpectedExceptionPropagates() {
+        // given
+        when(articleSearchService.search("spring", 0, 20)).thenThrow(new IllegalStateException("index broken"));
+
+        // when & then
+        assertThatThrownBy(() -> articleSearchController.searchArticles("spring", 0, 20))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
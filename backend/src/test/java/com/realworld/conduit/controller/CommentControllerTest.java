@@ -80,7 +80,7 @@ class CommentControllerTest {
         when(commentService.getCommentsCount("test-article")).thenReturn(1);
 
         // when
-        ResponseEntity<?> response = commentController.getComments("test-article");
+        ResponseEntity<?> response = commentController.getComments("test-article", null);
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -88,6 +88,24 @@ class CommentControllerTest {
         verify(commentService).getCommentsCount("test-article");
     }
 
+    @Test
+    @DisplayName("댓글 목록 조회 API 테스트 - ETag 일치 시 304")
+    void getComments_NotModified() {
+        // given
+        List<CommentResponse> comments = Arrays.asList(sampleResponse);
+        when(commentService.getComments("test-article")).thenReturn(comments);
+        when(commentService.getCommentsCount("test-article")).thenReturn(1);
+        String etag = commentController.getComments("test-article", null).getHeaders().getETag();
+
+        // when
+        ResponseEntity<?> response = commentController.getComments("test-article", etag);
+
+        // then
+        assertThat(etag).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
     @Test
     @DisplayName("댓글 삭제 API 테스트 - 성공")
     void deleteComment_Success() {
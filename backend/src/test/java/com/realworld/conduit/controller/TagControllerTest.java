@@ -0,0 +1,71 @@
+package com.realworld.conduit.controller;
+
+import com.realworld.conduit.mapper.TagMapper;
+import com.realworld.conduit.model.Tag;
+import com.realworld.conduit.service.PopularTagService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagControllerTest {
+
+    @Mock
+    private PopularTagService popularTagService;
+
+    @Mock
+    private TagMapper tagMapper;
+
+    @InjectMocks
+    private TagController tagController;
+
+    @Test
+    @DisplayName("인기 태그 조회 API 테스트 - DB 조회 없음")
+    void getTags_Popular() {
+        // given
+        when(popularTagService.getPopularTags(5)).thenReturn(List.of("java", "spring"));
+
+        // when
+        ResponseEntity<?> response = tagController.getTags(5);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(popularTagService).getPopularTags(5);
+        verifyNoInteractions(tagMapper);
+    }
+
+    @Test
+    @DisplayName("전체 태그 조회 API 테스트")
+    void getTags_All() {
+        // given
+        when(tagMapper.findAllTags()).thenReturn(List.of(new Tag("java")));
+
+        // when
+        ResponseEntity<?> response = tagController.getTags(null);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(tagMapper).findAllTags();
+    }
+
+    @Test
+    @DisplayName("인기 태그 조회 API 테스트 - 잘못된 개수")
+    void getTags_InvalidPopular() {
+        // when
+        ResponseEntity<?> response = tagController.getTags(0);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(popularTagService, tagMapper);
+    }
+}
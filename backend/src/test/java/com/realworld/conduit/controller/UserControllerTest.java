@@ -113,4 +113,36 @@ class UserControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
         verify(userService).registerUser(any(UserRegistrationRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프로필 조회 API - ETag 일치 시 304")
+    void getUserProfile_NotModified() {
+        // given
+        when(userService.getUserProfile("testuser", null)).thenReturn(userResponse);
+        String etag = userController.getUserProfile("testuser", null, null).getHeaders().getETag();
+
+        // when
+        ResponseEntity<?> response = userController.getUserProfile("testuser", etag, null);
+
+        // then
+        assertThat(etag).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("프로필 조회 API - 팔로우 상태가 바뀌면 200")
+    void getUserProfile_ModifiedAfterFollow() {
+        // given
+        when(userService.getUserProfile("testuser", null)).thenReturn(userResponse);
+        String etag = userController.getUserProfile("testuser", null, null).getHeaders().getETag();
+        userResponse.setFollowersCount(1);
+
+        // when
+        ResponseEntity<?> response = userController.getUserProfile("testuser", etag, null);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+}
@@ -0,0 +1,139 @@
+package com.realworld.conduit.filter;
+
+import com.realworld.conduit.cache.ResponseBytesCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AnonymousResponseCacheFilterTest {
+
+    private static final String BODY = "{\"success\":true,\"data\":{}}";
+
+    private final ResponseBytesCache cache = new ResponseBytesCache(true, 1024 * 1024, Duration.ofMinutes(1));
+    private final AnonymousResponseCacheFilter filter = new AnonymousResponseCacheFilter(cache);
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+
+    private final FilterChain controller = (request, response) -> {
+        controllerCalls.incrementAndGet();
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(HttpServletResponse.SC_OK);
+        http.setContentType("application/json");
+        http.setHeader("ETag", "\"v1\"");
+        http.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+    };
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("비로그인 아티클 조회는 두 번째부터 컨트롤러 없이 캐시 바이트로 응답 테스트")
+    void anonymousGet_ServedFromCache() throws Exception {
+        MockHttpServletResponse first = perform(get("/api/articles/test-article"));
+        MockHttpServletResponse second = perform(get("/api/articles/test-article"));
+
+        assertThat(controllerCalls.get()).isEqualTo(1);
+        assertThat(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getHeader("ETag")).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    @DisplayName("gzip 허용 요청에는 미리 압축한 바이트로 응답 테스트")
+    void anonymousGet_ServesGzipWhenAccepted() throws Exception {
+        perform(get("/api/articles"));
+        MockHttpServletRequest request = get("/api/articles");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getContentAsByteArray()).isEqualTo(cache.get(ResponseBytesCache.listKey(null)).gzippedBody());
+    }
+
+    @Test
+    @DisplayName("gzip;q=0 요청에는 압축하지 않은 바이트로 응답 테스트")
+    void anonymousGet_IdentityWhenGzipRefused() throws Exception {
+        perform(get("/api/articles"));
+        MockHttpServletRequest request = get("/api/articles");
+        request.addHeader("Accept-Encoding", "deflate, gzip;q=0");
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 항목별 q값으로 gzip 허용 여부 판단 테스트")
+    void acceptsGzip_ParsesQualityValues() {
+        assertThat(AnonymousResponseCacheFilter.acceptsGzip(List.of("gzip"))).isTrue();
+        assertThat(AnonymousResponseCacheFilter.acceptsGzip(List.of("br;q=1.0, GZIP ; q=0.5"))).isTrue();
+        assertThat(AnonymousResponseCacheFilter.acceptsGzip(List.of("gzip;q=0"))).isFalse();
+        assertThat(AnonymousResponseCacheFilter.acceptsGzip(List.of("gzip;q=0.000"))).isFalse();
+        assertThat(AnonymousResponseCacheFilter.acceptsGzip(List.of("x-gzip"))).isFalse();
+        assertThat(AnonymousResponseCacheFilter.acceptsGzip(List.of("deflate", "*;q=0.1"))).isTrue();
+        assertThat(AnonymousResponseCacheFilter.acceptsGzip(List.of("*", "gzip;q=0"))).isFalse();
+        assertThat(AnonymousResponseCacheFilter.acceptsGzip(List.of())).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 ETag가 일치하면 304 테스트")
+    void anonymousGet_NotModifiedFromCache() throws Exception {
+        perform(get("/api/articles/test-article"));
+        MockHttpServletRequest request = get("/api/articles/test-article");
+        request.addHeader("If-None-Match", "\"v1\"");
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getContentLength()).isZero();
+        assertThat(controllerCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 사용자 요청은 캐시하지 않음 테스트")
+    void authenticatedGet_Bypasses() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("test@example.com", null, List.of()));
+
+        perform(get("/api/articles/test-article"));
+        perform(get("/api/articles/test-article"));
+
+        assertThat(controllerCalls.get()).isEqualTo(2);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("피드는 캐시 대상이 아님 테스트")
+    void feed_NotCached() throws Exception {
+        perform(get("/api/articles/feed"));
+        perform(get("/api/articles/feed"));
+
+        assertThat(controllerCalls.get()).isEqualTo(2);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,91 @@
+package com.realworld.conduit.mapper;
+
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 매퍼 XML 문장을 그대로 실행해 보는 내장 H2 (MariaDB 호환 모드)
+ *
+ * 실제 MariaDB가 아니라 근사치임. INSERT IGNORE, 유니크 인덱스 위반 같은 문법/제약 동작은 확인할 수 있지만
+ * 잠금, 격리 수준, 옵티마이저 동작은 MariaDB와 다를 수 있으므로 그에 의존하는 검증에는 쓰지 않음.
+ * 테스트에 필요한 테이블은 호출자가 만들고, db/ 변경 스크립트의 유니크 인덱스를 같은 정의로 적용함.
+ * 스크립트의 USE, DELETE ... JOIN 중복 정리 같은 MariaDB 전용 문장은 빈 테이블에는 의미가 없어 건너뜀.
+ * 커넥션은 요청마다 새로 열고 자동 커밋하므로 여러 스레드가 동시에 써도 각자의 트랜잭션으로 실행됨.
+ */
+public final class H2MariaDbModeDatabase implements AutoCloseable {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlSessionTemplate sqlSession;
+
+    private H2MariaDbModeDatabase(String... mapperResources) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+
+        SqlSessionFactoryBean factory = new SqlSessionFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setMapperLocations(Arrays.stream(mapperResources)
+                .map(ClassPathResource::new)
+                .toArray(Resource[]::new));
+        try {
+            this.sqlSession = new SqlSessionTemplate(factory.getObject());
+        } catch (Exception e) {
+            throw new IllegalStateException("매퍼 XML 로드 실패", e);
+        }
+    }
+
+    public static H2MariaDbModeDatabase start(String... mapperResources) {
+        return new H2MariaDbModeDatabase(mapperResources);
+    }
+
+    public H2MariaDbModeDatabase execute(String sql) {
+        jdbcTemplate.execute(sql);
+        return this;
+    }
+
+    /**
+     * 변경 스크립트에서 해당 테이블의 CREATE UNIQUE INDEX 문만 실행
+     */
+    public H2MariaDbModeDatabase applyUniqueIndexes(String scriptResource, String table) {
+        String script;
+        try {
+            script = new ClassPathResource(scriptResource).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Arrays.stream(script.split(";"))
+                .map(statement -> statement.lines()
+                        .filter(line -> !line.strip().startsWith("--"))
+                        .collect(Collectors.joining("\n"))
+                        .strip())
+                .filter(statement -> statement.startsWith("CREATE UNIQUE INDEX"))
+                .filter(statement -> statement.contains(" ON " + table + " "))
+                .forEach(jdbcTemplate::execute);
+        return this;
+    }
+
+    public <T> T mapper(Class<T> type) {
+        return sqlSession.getMapper(type);
+    }
+
+    public int count(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public void close() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+}
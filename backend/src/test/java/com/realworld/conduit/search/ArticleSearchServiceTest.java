@@ -0,0 +1,139 @@
+package com.realworld.conduit.search;
+
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.ArticleUpdatedEvent;
+import com.realworld.conduit.event.UserUpdatedEvent;
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.model.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchServiceTest {
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @InjectMocks
+    private ArticleSearchService articleSearchService;
+
+    private Article article(long id, String title, String description, String body) {
+        Article article = new Article();
+        article.setId(id);
+        article.setSlug("article-" + id);
+        article.setTitle(title);
+        article.setDescription(description);
+        article.setBody(body);
+        article.setAuthorId(1L);
+        article.setAuthorUsername("author");
+        article.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id));
+        return article;
+    }
+
+    @Test
+    @DisplayName("제목 일치 문서가 본문 일치 문서보다 높게 랭크되는지 테스트")
+    void search_RanksTitleMatchesHigher() {
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(
+                article(1, "Cooking basics", "kitchen", "This article mentions spring once.")));
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(
+                article(2, "Spring Boot guide", "framework", "Configuration and beans.")));
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(
+                article(3, "Gardening", "plants", "Nothing relevant here.")));
+
+        SearchResult result = articleSearchService.search("spring", 0, 10);
+
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.hits()).extracting(hit -> hit.document().slug())
+                .containsExactly("article-2", "article-1");
+    }
+
+    @Test
+    @DisplayName("한글 검색 테스트")
+    void search_Hangul() {
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(
+                article(1, "자바스크립트 기초 학습", "입문", "변수와 함수를 다룹니다.")));
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(
+                article(2, "파이썬 입문", "기초", "리스트와 딕셔너리")));
+
+        SearchResult result = articleSearchService.search("자바스크립트", 0, 10);
+
+        assertThat(result.hits()).extracting(hit -> hit.document().articleId()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제 이벤트가 색인에 반영되는지 테스트")
+    void search_ReflectsUpdatesAndDeletes() {
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(article(1, "Kotlin tips", "", "")));
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(article(2, "Kotlin coroutines", "", "")));
+
+        articleSearchService.onArticleUpdated(new ArticleUpdatedEvent(article(1, "Java tips", "", "")));
+        articleSearchService.onArticleDeleted(new ArticleDeletedEvent(article(2, "Kotlin coroutines", "", "")));
+
+        assertThat(articleSearchService.search("kotlin", 0, 10).totalHits()).isZero();
+        assertThat(articleSearchService.search("java", 0, 10).hits())
+                .extracting(hit -> hit.document().title()).containsExactly("Java tips");
+        assertThat(articleSearchService.indexedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로필 수정 이벤트로 해당 작성자 문서의 작성자 이름만 갱신되는지 테스트")
+    void search_ReflectsAuthorRename() {
+        Article other = article(2, "Spring security", "", "");
+        other.setAuthorId(2L);
+        other.setAuthorUsername("other");
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(article(1, "Spring data", "", "")));
+        articleSearchService.onArticleCreated(new ArticleCreatedEvent(other));
+
+        articleSearchService.onUserUpdated(new UserUpdatedEvent(1L, "renamed"));
+
+        SearchResult result = articleSearchService.search("spring", 0, 10);
+        assertThat(result.hits()).extracting(hit -> hit.document().slug() + ":" + hit.document().authorUsername())
+                .containsExactlyInAnyOrder("article-1:renamed", "article-2:other");
+        assertThat(articleSearchService.indexedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검색 결과 페이지네이션 테스트")
+    void search_Pagination() {
+        for (long id = 1; id <= 5; id++) {
+            articleSearchService.onArticleCreated(new ArticleCreatedEvent(article(id, "common title " + id, "", "")));
+        }
+
+        SearchResult firstPage = articleSearchService.search("common", 0, 2);
+        SearchResult lastPage = articleSearchService.search("common", 4, 2);
+
+        assertThat(firstPage.totalHits()).isEqualTo(5);
+        assertThat(firstPage.hits()).hasSize(2);
+        assertThat(lastPage.hits()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("DB 전체 아티클로 색인 재구축 테스트")
+    void rebuild_LoadsAllArticlesByKeyset() {
+        List<Article> firstPage = new ArrayList<>();
+        for (long id = 1000; id >= 1; id--) {
+            firstPage.add(article(id, "bulk article " + id, "", ""));
+        }
+        Article last = firstPage.get(firstPage.size() - 1);
+        when(articleMapper.findArticleDetailsBefore(any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(1000))).thenReturn(firstPage);
+        when(articleMapper.findArticleDetailsBefore(last.getCreatedAt(), last.getId(), 1000)).thenReturn(List.of());
+
+        articleSearchService.rebuild();
+
+        assertThat(articleSearchService.indexedCount()).isEqualTo(1000);
+        assertThat(articleSearchService.search("bulk", 0, 1).totalHits()).isEqualTo(1000);
+    }
+}
@@ -0,0 +1,43 @@
+package com.realworld.conduit.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("영문 텍스트 토큰화 테스트")
+    void tokenize_English() {
+        assertThat(SearchTokenizer.tokenize("How to Train Your Dragon, ES6!"))
+                .containsExactly("how", "to", "train", "your", "dragon", "es6");
+    }
+
+    @Test
+    @DisplayName("한글 텍스트 bigram 토큰화 테스트")
+    void tokenize_Hangul() {
+        assertThat(SearchTokenizer.tokenize("자바스크립트 기초"))
+                .containsExactly("자바", "바스", "스크", "크립", "립트", "기초");
+    }
+
+    @Test
+    @DisplayName("한 글자 한글은 unigram으로 토큰화 테스트")
+    void tokenize_SingleHangulSyllable() {
+        assertThat(SearchTokenizer.tokenize("책 읽기")).containsExactly("책", "읽기");
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있는 텍스트 토큰화 테스트")
+    void tokenize_Mixed() {
+        assertThat(SearchTokenizer.tokenize("Spring부트 가이드"))
+                .containsExactly("spring", "부트", "가이", "이드");
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 문자열 토큰화 테스트")
+    void tokenize_Empty() {
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+        assertThat(SearchTokenizer.tokenize("  !@# ")).isEmpty();
+    }
+}
@@ -0,0 +1,157 @@
+package com.realworld.conduit.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.model.ArticleExportRow;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceTest {
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ArticleExportService articleExportService;
+
+    @BeforeEach
+    void setUp() {
+        articleExportService = new ArticleExportService(articleMapper, objectMapper);
+    }
+
+    @Test
+    @DisplayName("아티클 행과 뒤따르는 댓글 행을 아티클당 한 줄의 NDJSON으로 묶어서 출력 테스트")
+    void exportArticles_GroupsCommentsPerLine() throws IOException {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        StubCursor cursor = new StubCursor(List.of(
+                articleRow(1L, "java\u001Fspring"),
+                commentRow(1L, 10L, "first comment", createdAt),
+                commentRow(1L, 11L, "second comment", createdAt),
+                articleRow(2L, null),
+                articleRow(3L, "news"),
+                commentRow(3L, 12L, "third comment", createdAt)));
+        when(articleMapper.streamArticlesWithComments()).thenReturn(cursor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = articleExportService.exportArticles(out);
+
+        // then
+        assertThat(exported).isEqualTo(3);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("slug").asText()).isEqualTo("article-1");
+        assertThat(first.get("body").asText()).isEqualTo("body");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2024-01-01T12:00:00");
+        assertThat(first.get("tagList")).extracting(JsonNode::asText).containsExactly("java", "spring");
+        assertThat(first.get("comments")).extracting(comment -> comment.get("body").asText())
+                .containsExactly("first comment", "second comment");
+        assertThat(first.get("comments")).extracting(comment -> comment.get("author").asText())
+                .containsOnly("commenter");
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("tagList")).isEmpty();
+        assertThat(second.get("comments")).isEmpty();
+
+        assertThat(objectMapper.readTree(lines[2]).get("comments")).hasSize(1);
+        assertThat(cursor.closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("아티클이 없으면 빈 출력 테스트")
+    void exportArticles_Empty() throws IOException {
+        // given
+        when(articleMapper.streamArticlesWithComments()).thenReturn(new StubCursor(List.of()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = articleExportService.exportArticles(out);
+
+        // then
+        assertThat(exported).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    private static ArticleExportRow articleRow(Long id, String tagList) {
+        ArticleExportRow row = new ArticleExportRow();
+        row.setId(id);
+        row.setSlug("article-" + id);
+        row.setTitle("Article " + id);
+        row.setDescription("desc");
+        row.setBody("body");
+        row.setAuthorUsername("author");
+        row.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        row.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        row.setTagList(tagList);
+        return row;
+    }
+
+    // 댓글 행은 아티클 컬럼 없이 아티클 id와 댓글 컬럼만 채워짐
+    private static ArticleExportRow commentRow(Long articleId, Long commentId, String commentBody,
+                                               LocalDateTime createdAt) {
+        ArticleExportRow row = new ArticleExportRow();
+        row.setId(articleId);
+        row.setCommentId(commentId);
+        row.setCommentBody(commentBody);
+        row.setCommentAuthorUsername("commenter");
+        row.setCommentCreatedAt(createdAt);
+        return row;
+    }
+
+    // 목록 기반 Cursor (한 번만 순회 가능)
+    private static class StubCursor implements Cursor<ArticleExportRow> {
+
+        private final List<ArticleExportRow> rows;
+        private boolean closed;
+
+        StubCursor(List<ArticleExportRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public Iterator<ArticleExportRow> iterator() {
+            return rows.iterator();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.realworld.conduit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realworld.conduit.dto.ArticleImportResult;
+import com.realworld.conduit.event.ArticlesImportedEvent;
+import com.realworld.conduit.mapper.UserMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.User;
+import com.realworld.conduit.service.ArticleImportWriter.ImportItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private ArticleImportWriter articleImportWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ArticleImportService articleImportService;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 크기 2로 청크 경계 동작 확인
+        articleImportService = new ArticleImportService(
+                userMapper, articleImportWriter, new ObjectMapper(), eventPublisher, 2);
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+        lenient().when(userMapper.findByEmail("test@example.com")).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("NDJSON을 청크 단위로 저장하고 필수 항목 누락 줄은 거부 테스트")
+    void importArticles_WritesInChunks() throws IOException {
+        // given
+        List<List<ImportItem>> chunks = new ArrayList<>();
+        when(articleImportWriter.writeChunk(anyList())).thenAnswer(invocation -> {
+            List<ImportItem> chunk = invocation.getArgument(0);
+            chunks.add(chunk);
+            return chunk.size();
+        });
+        String ndjson = String.join("\n",
+                line("First Post", "java, spring"),
+                line("Second Post", null),
+                "{\"title\":\"No Body\",\"description\":\"d\"}",
+                line("Third Post", " java "),
+                line("Fourth Post", null)) + "\n";
+
+        // when
+        ArticleImportResult result = articleImportService.importArticles(stream(ndjson), "test@example.com");
+
+        // then
+        assertThat(result.getImported()).isEqualTo(4);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly("3행: 내용은 필수입니다.");
+        assertThat(chunks).extracting(List::size).containsExactly(2, 2);
+
+        ImportItem first = chunks.get(0).get(0);
+        assertThat(first.baseSlug()).isEqualTo("first-post");
+        assertThat(first.article().getAuthorId()).isEqualTo(1L);
+        assertThat(first.article().getCreatedAt()).isNotNull();
+        assertThat(first.tagNames()).containsExactly("java", "spring");
+        assertThat(chunks.get(1).get(0).tagNames()).containsExactly("java");
+
+        ArgumentCaptor<ArticlesImportedEvent> event = ArgumentCaptor.forClass(ArticlesImportedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().importedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("원본 작성/수정 시각은 유지하고 없으면 가져온 시각 사용 테스트")
+    void importArticles_KeepsSourceTimestamps() throws IOException {
+        // given
+        List<ImportItem> written = new ArrayList<>();
+        when(articleImportWriter.writeChunk(anyList())).thenAnswer(invocation -> {
+            List<ImportItem> chunk = invocation.getArgument(0);
+            written.addAll(chunk);
+            return chunk.size();
+        });
+        String ndjson = String.join("\n",
+                "{\"title\":\"Old\",\"description\":\"d\",\"body\":\"b\","
+                        + "\"createdAt\":\"2020-05-01T09:30:15.123\",\"updatedAt\":\"2021-02-03T04:05:06\"}",
+                "{\"title\":\"Created Only\",\"description\":\"d\",\"body\":\"b\","
+                        + "\"createdAt\":\"2019-12-31T23:59:59\"}",
+                line("New", null),
+                "{\"title\":\"Bad Date\",\"description\":\"d\",\"body\":\"b\",\"createdAt\":\"2020/05/01\"}",
+                "{\"title\":\"Reversed\",\"description\":\"d\",\"body\":\"b\","
+                        + "\"createdAt\":\"2021-01-01T00:00:00\",\"updatedAt\":\"2020-01-01T00:00:00\"}");
+        LocalDateTime before = LocalDateTime.now().withNano(0);
+
+        // when
+        ArticleImportResult result = articleImportService.importArticles(stream(ndjson), "test@example.com");
+
+        // then
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getErrors()).containsExactly(
+                "4행: 작성/수정 시각 형식 오류: 2020/05/01",
+                "5행: 수정 시각은 작성 시각보다 앞설 수 없습니다.");
+
+        Article old = written.get(0).article();
+        assertThat(old.getCreatedAt()).isEqualTo(LocalDateTime.of(2020, 5, 1, 9, 30, 15));
+        assertThat(old.getUpdatedAt()).isEqualTo(LocalDateTime.of(2021, 2, 3, 4, 5, 6));
+
+        Article createdOnly = written.get(1).article();
+        assertThat(createdOnly.getCreatedAt()).isEqualTo(LocalDateTime.of(2019, 12, 31, 23, 59, 59));
+        assertThat(createdOnly.getUpdatedAt()).isEqualTo(createdOnly.getCreatedAt());
+
+        Article fresh = written.get(2).article();
+        assertThat(fresh.getCreatedAt()).isAfterOrEqualTo(before);
+        assertThat(fresh.getUpdatedAt()).isEqualTo(fresh.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("slug 경합으로 청크 저장 실패 시 한 번 재시도 테스트")
+    void importArticles_RetriesChunkOnDuplicateKey() throws IOException {
+        // given
+        when(articleImportWriter.writeChunk(anyList()))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'first-post'"))
+                .thenReturn(1);
+
+        // when
+        ArticleImportResult result = articleImportService.importArticles(
+                stream(line("First Post", null)), "test@example.com");
+
+        // then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isZero();
+        verify(articleImportWriter, times(2)).writeChunk(anyList());
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 실패한 청크는 실패로 보고하고 다음 청크 계속 테스트")
+    void importArticles_ReportsFailedChunk() throws IOException {
+        // given
+        when(articleImportWriter.writeChunk(anyList()))
+                .thenThrow(new DuplicateKeyException("dup"))
+                .thenThrow(new DuplicateKeyException("dup"))
+                .thenReturn(1);
+        String ndjson = line("A", null) + "\n" + line("B", null) + "\n" + line("C", null);
+
+        // when
+        ArticleImportResult result = articleImportService.importArticles(stream(ndjson), "test@example.com");
+
+        // then
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getChunks()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON 줄에서 읽기를 중단하고 앞선 줄까지만 저장 테스트")
+    void importArticles_AbortsOnMalformedJson() throws IOException {
+        // given
+        when(articleImportWriter.writeChunk(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        String ndjson = line("A", null) + "\n{\"title\": }\n" + line("B", null);
+
+        // when
+        ArticleImportResult result = articleImportService.importArticles(stream(ndjson), "test@example.com");
+
+        // then
+        assertThat(result.isAborted()).isTrue();
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("사용자 없음 시 가져오기 실패 테스트")
+    void importArticles_UserNotFound() {
+        assertThatThrownBy(() -> articleImportService.importArticles(stream(line("A", null)), "missing@example.com"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("사용자를 찾을 수 없습니다.");
+        verifyNoInteractions(articleImportWriter);
+    }
+
+    @Test
+    @DisplayName("청크 안 같은 제목은 DB 최대 접미사 다음 번호부터 차례로 할당 테스트")
+    void assignSlugs_ContinuesFromMaxSuffix() {
+        // given
+        List<ImportItem> items = List.of(item("weekly-update"), item("weekly-update"), item("new-title"), item("new-title"));
+
+        // when
+        ArticleImportWriter.assignSlugs(items, Map.of("weekly-update", 49L, "new-title", -1L));
+
+        // then
+        assertThat(items).extracting(i -> i.article().getSlug())
+                .containsExactly("weekly-update-50", "weekly-update-51", "new-title", "new-title-1");
+    }
+
+    @Test
+    @DisplayName("다른 기본 slug가 청크 안에서 만든 slug와 겹치면 다음 번호로 할당 테스트")
+    void assignSlugs_SkipsSlugsTakenByOtherBase() {
+        // given - 제목 "A", "A", "A 1", "A 1"
+        List<ImportItem> items = List.of(item("a"), item("a"), item("a-1"), item("a-1"));
+
+        // when
+        ArticleImportWriter.assignSlugs(items, Map.of("a", -1L, "a-1", -1L));
+
+        // then
+        assertThat(items).extracting(i -> i.article().getSlug())
+                .containsExactly("a", "a-1", "a-1-1", "a-1-2");
+    }
+
+    private static ImportItem item(String baseSlug) {
+        return new ImportItem(baseSlug, new Article(), List.of());
+    }
+
+    private static String line(String title, String tags) {
+        StringBuilder json = new StringBuilder("{\"title\":\"").append(title)
+                .append("\",\"description\":\"desc\",\"body\":\"body\"");
+        if (tags != null) {
+            json.append(",\"tagList\":[");
+            String[] names = tags.split(",");
+            for (int i = 0; i < names.length; i++) {
+                json.append(i > 0 ? "," : "").append('"').append(names[i]).append('"');
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,26 +1,52 @@
 package com.realworld.conduit.service;
 
+import com.realworld.conduit.cache.ArticleCache;
+import com.realworld.conduit.cache.ArticleCountCache;
+import com.realworld.conduit.cache.FavoritesBitmapCache;
+import com.realworld.conduit.cache.FavoritesCountBuffer;
+import com.realworld.conduit.config.PrimaryReads;
 import com.realworld.conduit.dto.ArticleRequest;
 import com.realworld.conduit.dto.ArticleResponse;
+import com.realworld.conduit.dto.ArticleSummaryResponse;
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.ArticleDeletedEvent;
+import com.realworld.conduit.event.ArticleFavoriteChangedEvent;
+import com.realworld.conduit.event.ArticleTagsChangedEvent;
 import com.realworld.conduit.mapper.ArticleMapper;
 import com.realworld.conduit.mapper.UserMapper;
 import com.realworld.conduit.mapper.ArticleFavoriteMapper;
 import com.realworld.conduit.mapper.ArticleTagMapper;
+import com.realworld.conduit.mapper.H2MariaDbModeDatabase;
 import com.realworld.conduit.mapper.TagMapper;
 import com.realworld.conduit.mapper.UserFollowMapper;
 import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.ArticleFavorite;
+import com.realworld.conduit.model.ArticleTag;
+import com.realworld.conduit.model.Tag;
 import com.realworld.conduit.model.User;
+import com.realworld.conduit.util.ArticleCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,6 +73,23 @@ class ArticleServiceTest {
     @Mock
     private UserFollowMapper userFollowMapper;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    // 캐시 비활성화: 항상 mapper를 직접 조회
+    @Spy
+    private ArticleCache articleCache = new ArticleCache(new PrimaryReads(null, false), false, 0, Duration.ZERO);
+    
+    @Spy
+    private ArticleCountCache articleCountCache = new ArticleCountCache(false, Duration.ZERO);
+    
+    @Mock
+    private FavoritesCountBuffer favoritesCountBuffer;
+    
+    // 비트맵 비활성화: 즐겨찾기 여부는 mapper로 조회
+    @Spy
+    private FavoritesBitmapCache favoritesBitmapCache = new FavoritesBitmapCache(null, new PrimaryReads(null, false), false, 0, Duration.ZERO);
+    
     @InjectMocks
     private ArticleService articleService;
     
@@ -79,6 +122,10 @@ class ArticleServiceTest {
         testRequest.setTitle("Test Article");
         testRequest.setDescription("Test Description");
         testRequest.setBody("Test Body");
+
+        // 기본: 미반영 즐겨찾기 증감분 없음
+        lenient().when(favoritesCountBuffer.currentCount(any(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
     }
 
     @Test
@@ -86,24 +133,134 @@ class ArticleServiceTest {
     void createArticle_Success() {
         // given
         when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
-        when(articleMapper.existsBySlug(anyString())).thenReturn(false);
-        when(articleMapper.findBySlug(anyString())).thenReturn(testArticle);
-        when(articleFavoriteMapper.countFavorites(any())).thenReturn(0);
-        doNothing().when(articleMapper).insertArticle(any(Article.class));
+        when(articleMapper.findMaxSlugSuffix(anyString())).thenReturn(-1L);
+        doAnswer(invocation -> {
+            Article article = invocation.getArgument(0);
+            article.setId(7L);
+            return null;
+        }).when(articleMapper).insertArticle(any(Article.class));
 
         // when
         ArticleResponse response = articleService.createArticle(testRequest, "test@example.com");
 
         // then
         assertThat(response).isNotNull();
+        assertThat(response.getId()).isEqualTo(7L);
+        assertThat(response.getSlug()).isEqualTo("test-article");
         assertThat(response.getTitle()).isEqualTo("Test Article");
         assertThat(response.getDescription()).isEqualTo("Test Description");
         assertThat(response.getBody()).isEqualTo("Test Body");
+        assertThat(response.getCreatedAt()).isNotNull().isEqualTo(response.getUpdatedAt());
         assertThat(response.getAuthor().getUsername()).isEqualTo("testuser");
 
+        // 사용자 조회, slug 접미사 조회, 삽입 3개 문장만 실행 (삽입 후 재조회 없음)
         verify(userMapper).findByEmail("test@example.com");
+        verify(articleMapper).findMaxSlugSuffix("test-article");
         verify(articleMapper).insertArticle(any(Article.class));
-        verify(articleMapper).findBySlug(anyString());
+        verifyNoMoreInteractions(articleMapper, userMapper);
+        verify(eventPublisher).publishEvent(any(ArticleCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 제목 아티클 생성 시 최대 접미사 조회 한 번으로 slug 결정 테스트")
+    void createArticle_SlugSuffixFromSingleLookup() {
+        // given
+        List<String> insertedSlugs = new ArrayList<>();
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(articleMapper.findMaxSlugSuffix("test-article")).thenReturn(49L);
+        doAnswer(invocation -> {
+            insertedSlugs.add(invocation.<Article>getArgument(0).getSlug());
+            return null;
+        }).when(articleMapper).insertArticle(any(Article.class));
+
+        // when
+        articleService.createArticle(testRequest, "test@example.com");
+
+        // then
+        assertThat(insertedSlugs).containsExactly("test-article-50");
+        verify(articleMapper, times(1)).findMaxSlugSuffix("test-article");
+    }
+
+    @Test
+    @DisplayName("동시 생성으로 slug 중복 시 재조회 후 재시도 테스트")
+    void createArticle_RetriesOnDuplicateSlug() {
+        // given
+        List<String> insertedSlugs = new ArrayList<>();
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(articleMapper.findMaxSlugSuffix("test-article")).thenReturn(-1L, 0L);
+        doAnswer(invocation -> {
+            String slug = invocation.<Article>getArgument(0).getSlug();
+            insertedSlugs.add(slug);
+            if (slug.equals("test-article")) {
+                throw new DuplicateKeyException("Duplicate entry 'test-article'");
+            }
+            return null;
+        }).when(articleMapper).insertArticle(any(Article.class));
+
+        // when
+        articleService.createArticle(testRequest, "test@example.com");
+
+        // then
+        assertThat(insertedSlugs).containsExactly("test-article", "test-article-1");
+        verify(articleMapper, times(2)).findMaxSlugSuffix("test-article");
+    }
+
+    @Test
+    @DisplayName("재시도가 계속 충돌하면 마지막 시도는 임의 접미사 사용 테스트")
+    void createArticle_FallsBackToRandomSuffix() {
+        // given
+        List<String> insertedSlugs = new ArrayList<>();
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(articleMapper.findMaxSlugSuffix("test-article")).thenReturn(-1L);
+        doAnswer(invocation -> {
+            String slug = invocation.<Article>getArgument(0).getSlug();
+            insertedSlugs.add(slug);
+            if (slug.equals("test-article")) {
+                throw new DuplicateKeyException("Duplicate entry 'test-article'");
+            }
+            return null;
+        }).when(articleMapper).insertArticle(any(Article.class));
+
+        // when
+        articleService.createArticle(testRequest, "test@example.com");
+
+        // then
+        assertThat(insertedSlugs).hasSize(3);
+        assertThat(insertedSlugs.get(2)).matches("test-article-[0-9a-f]{8}");
+    }
+
+    @Test
+    @DisplayName("태그 포함 아티클 생성 시 태그 일괄 저장 테스트")
+    void createArticle_WithTags() {
+        // given
+        testRequest.setTagList(Arrays.asList("java", " spring ", "java", "", "jpa"));
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(articleMapper.findMaxSlugSuffix(anyString())).thenReturn(-1L);
+        doAnswer(invocation -> {
+            Article article = invocation.getArgument(0);
+            article.setId(1L);
+            return null;
+        }).when(articleMapper).insertArticle(any(Article.class));
+
+        List<String> expectedNames = Arrays.asList("java", "spring", "jpa");
+        Tag java = new Tag("java");
+        java.setId(10L);
+        Tag spring = new Tag("spring");
+        spring.setId(11L);
+        Tag jpa = new Tag("jpa");
+        jpa.setId(12L);
+        when(tagMapper.findByNames(expectedNames)).thenReturn(Arrays.asList(java, spring, jpa));
+
+        // when
+        articleService.createArticle(testRequest, "test@example.com");
+
+        // then
+        verify(tagMapper).insertTags(expectedNames);
+        verify(tagMapper).findByNames(expectedNames);
+        verify(articleTagMapper).insertArticleTags(1L, Arrays.asList(10L, 11L, 12L));
+        verify(tagMapper, never()).findByName(anyString());
+        verify(tagMapper, never()).insertTag(any());
+        verify(articleTagMapper, never()).insertArticleTag(any());
     }
 
     @Test
@@ -125,8 +282,8 @@ class ArticleServiceTest {
     @DisplayName("아티클 조회 성공 테스트")
     void getArticle_Success() {
         // given
+        testArticle.setFavoritesCount(5);
         when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
-        when(articleFavoriteMapper.countFavorites(any())).thenReturn(5);
 
         // when
         ArticleResponse response = articleService.getArticle("test-article-slug");
@@ -135,8 +292,10 @@ class ArticleServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getSlug()).isEqualTo("test-article-slug");
         assertThat(response.getTitle()).isEqualTo("Test Article");
+        assertThat(response.getFavoritesCount()).isEqualTo(5);
 
         verify(articleMapper).findBySlug("test-article-slug");
+        verifyNoInteractions(articleFavoriteMapper);
     }
 
     @Test
@@ -162,6 +321,7 @@ class ArticleServiceTest {
         article1.setSlug("article-1");
         article1.setTitle("Article 1");
         article1.setAuthorUsername("user1");
+        article1.setFavoritesCount(3);
 
         Article article2 = new Article();
         article2.setId(2L);
@@ -171,17 +331,133 @@ class ArticleServiceTest {
 
         List<Article> articles = Arrays.asList(article1, article2);
         when(articleMapper.findAllArticles(0, 20)).thenReturn(articles);
-        when(articleFavoriteMapper.countFavorites(any())).thenReturn(3);
 
         // when
-        List<ArticleResponse> response = articleService.getArticles(0, 20);
+        List<ArticleSummaryResponse> response = articleService.getArticles(0, 20);
 
         // then
         assertThat(response).hasSize(2);
         assertThat(response.get(0).getTitle()).isEqualTo("Article 1");
+        assertThat(response.get(0).getFavoritesCount()).isEqualTo(3);
         assertThat(response.get(1).getTitle()).isEqualTo("Article 2");
+        assertThat(response.get(1).getFavoritesCount()).isEqualTo(0);
+        assertThat(response.get(0)).isNotInstanceOf(ArticleResponse.class);
 
         verify(articleMapper).findAllArticles(0, 20);
+        verifyNoInteractions(articleFavoriteMapper);
+    }
+
+    @Test
+    @DisplayName("커서 기반 아티클 목록 조회 테스트")
+    void getArticles_WithCursor() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        ArticleCursor cursor = new ArticleCursor(createdAt, 10L);
+        when(articleMapper.findArticlesBefore(createdAt, 10L, 20)).thenReturn(List.of(testArticle));
+
+        // when
+        List<ArticleSummaryResponse> response = articleService.getArticles(cursor, 20);
+
+        // then
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getSlug()).isEqualTo("test-article-slug");
+        verify(articleMapper).findArticlesBefore(createdAt, 10L, 20);
+        verify(articleMapper, never()).findAllArticles(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("20개 아티클 페이지 조회 시 실행 쿼리 수가 일정한지 테스트")
+    void getArticles_ConstantStatementCount() {
+        // given
+        List<Article> articles = new ArrayList<>();
+        List<ArticleTag> articleTags = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            Article article = new Article();
+            article.setId(id);
+            article.setSlug("article-" + id);
+            articles.add(article);
+
+            ArticleTag articleTag = new ArticleTag(id, 100L);
+            articleTag.setTagName("tag-" + id);
+            articleTags.add(articleTag);
+        }
+        when(articleMapper.findAllArticles(0, 20)).thenReturn(articles);
+        when(articleTagMapper.findArticleTagsByArticleIds(anyList())).thenReturn(articleTags);
+
+        // when
+        List<ArticleSummaryResponse> response = articleService.getArticles(0, 20);
+
+        // then
+        assertThat(response).hasSize(20);
+        assertThat(response.get(0).getTagList()).containsExactly("tag-1");
+        assertThat(response.get(19).getTagList()).containsExactly("tag-20");
+
+        // 목록 1회(즐겨찾기 수 컬럼 포함) + 태그 1회, 페이지 크기와 무관
+        verify(articleMapper).findAllArticles(0, 20);
+        verify(articleTagMapper).findArticleTagsByArticleIds(anyList());
+        verifyNoMoreInteractions(articleMapper, articleFavoriteMapper, articleTagMapper);
+        verifyNoInteractions(tagMapper, userMapper);
+    }
+
+    @Test
+    @DisplayName("빈 아티클 목록 조회 시 태그 쿼리 생략 테스트")
+    void getArticles_Empty() {
+        // given
+        when(articleMapper.findAllArticles(100, 20)).thenReturn(List.of());
+
+        // when
+        List<ArticleSummaryResponse> response = articleService.getArticles(100, 20);
+
+        // then
+        assertThat(response).isEmpty();
+        verify(articleTagMapper, never()).findArticleTagsByArticleIds(anyList());
+    }
+
+    @Test
+    @DisplayName("목록 요약 응답에 본문 일괄 추가 테스트")
+    void withBodies_Success() {
+        // given
+        Article article2 = new Article();
+        article2.setId(2L);
+        article2.setSlug("article-2");
+        List<ArticleSummaryResponse> summaries = Arrays.asList(
+                new ArticleSummaryResponse(testArticle), new ArticleSummaryResponse(article2));
+
+        Article body1 = new Article();
+        body1.setId(1L);
+        body1.setBody("Body 1");
+        Article body2 = new Article();
+        body2.setId(2L);
+        body2.setBody("Body 2");
+        when(articleMapper.findBodiesByIds(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(body2, body1));
+
+        // when
+        List<ArticleSummaryResponse> response = articleService.withBodies(summaries);
+
+        // then
+        assertThat(response).hasSize(2);
+        assertThat(((ArticleResponse) response.get(0)).getBody()).isEqualTo("Body 1");
+        assertThat(((ArticleResponse) response.get(1)).getBody()).isEqualTo("Body 2");
+        assertThat(response.get(0).getSlug()).isEqualTo("test-article-slug");
+        verify(articleMapper).findBodiesByIds(Arrays.asList(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 여부 일괄 조회 테스트")
+    void getFavoritedArticleIds_Success() {
+        // given
+        List<Long> articleIds = Arrays.asList(1L, 2L, 3L);
+        when(articleFavoriteMapper.findFavoritedArticleIds("test@example.com", articleIds))
+                .thenReturn(Arrays.asList(1L, 3L));
+
+        // when
+        Set<Long> favoritedIds = articleService.getFavoritedArticleIds(articleIds, "test@example.com");
+
+        // then
+        assertThat(favoritedIds).containsExactlyInAnyOrder(1L, 3L);
+        verify(articleFavoriteMapper).findFavoritedArticleIds("test@example.com", articleIds);
+        verify(userMapper, never()).findByEmail(anyString());
+        verify(articleFavoriteMapper, never()).isFavorited(any(), any());
     }
 
     @Test
@@ -190,7 +466,6 @@ class ArticleServiceTest {
         // given
         when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
         when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
-        when(articleFavoriteMapper.countFavorites(any())).thenReturn(2);
         doNothing().when(articleMapper).updateArticle(any(Article.class));
 
         ArticleRequest updateRequest = new ArticleRequest();
@@ -198,15 +473,8 @@ class ArticleServiceTest {
         updateRequest.setDescription("Updated Description");
         updateRequest.setBody("Updated Body");
 
-        Article updatedArticle = new Article();
-        updatedArticle.setSlug("test-article-slug");
-        updatedArticle.setTitle("Updated Title");
-        updatedArticle.setDescription("Updated Description");
-        updatedArticle.setBody("Updated Body");
-        updatedArticle.setAuthorId(1L);
-        updatedArticle.setAuthorUsername("testuser");
-
-        when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle).thenReturn(updatedArticle);
+        LocalDateTime previousUpdatedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        testArticle.setUpdatedAt(previousUpdatedAt);
 
         // when
         ArticleResponse response = articleService.updateArticle("test-article-slug", updateRequest, "test@example.com");
@@ -216,10 +484,37 @@ class ArticleServiceTest {
         assertThat(response.getTitle()).isEqualTo("Updated Title");
         assertThat(response.getDescription()).isEqualTo("Updated Description");
         assertThat(response.getBody()).isEqualTo("Updated Body");
+        assertThat(response.getUpdatedAt()).isAfter(previousUpdatedAt);
+        assertThat(response.getAuthor().getUsername()).isEqualTo("testuser");
 
-        verify(articleMapper, times(2)).findBySlug("test-article-slug");
+        // 아티클 조회, 사용자 조회, 수정 후 태그 조회만 실행 (수정 후 아티클 재조회 없음)
+        verify(articleMapper, times(1)).findBySlug("test-article-slug");
         verify(userMapper).findByEmail("test@example.com");
         verify(articleMapper).updateArticle(any(Article.class));
+        verify(tagMapper).findTagsByArticleId(1L);
+        verifyNoMoreInteractions(articleMapper, userMapper);
+    }
+
+    @Test
+    @DisplayName("태그 포함 아티클 수정 시 태그 전체 교체 테스트")
+    void updateArticle_ReplacesTags() {
+        // given
+        testRequest.setTagList(List.of("kotlin"));
+        when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        Tag kotlin = new Tag("kotlin");
+        kotlin.setId(20L);
+        when(tagMapper.findByNames(List.of("kotlin"))).thenReturn(List.of(kotlin));
+        when(tagMapper.findTagsByArticleId(1L)).thenReturn(List.of(new Tag("java")));
+
+        // when
+        articleService.updateArticle("test-article-slug", testRequest, "test@example.com");
+
+        // then
+        verify(articleTagMapper).deleteArticleTagsByArticleId(1L);
+        verify(tagMapper).insertTags(List.of("kotlin"));
+        verify(articleTagMapper).insertArticleTags(1L, List.of(20L));
+        verify(eventPublisher).publishEvent(new ArticleTagsChangedEvent(1L, List.of("kotlin"), List.of("java")));
     }
 
     @Test
@@ -259,6 +554,24 @@ class ArticleServiceTest {
         verify(articleMapper).findBySlug("test-article-slug");
         verify(userMapper).findByEmail("test@example.com");
         verify(articleMapper).deleteBySlug("test-article-slug");
+        verify(eventPublisher).publishEvent(any(ArticleDeletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("태그가 있는 아티클 삭제 시 태그 연결 정리 및 이벤트 발행 테스트")
+    void deleteArticle_WithTags() {
+        // given
+        when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(tagMapper.findTagsByArticleId(1L)).thenReturn(List.of(new Tag("java")));
+
+        // when
+        articleService.deleteArticle("test-article-slug", "test@example.com");
+
+        // then
+        verify(articleTagMapper).deleteArticleTagsByArticleId(1L);
+        verify(articleMapper).deleteBySlug("test-article-slug");
+        verify(eventPublisher).publishEvent(new ArticleTagsChangedEvent(1L, List.of(), List.of("java")));
     }
 
     @Test
@@ -281,6 +594,36 @@ class ArticleServiceTest {
         verify(articleMapper).findBySlug("test-article-slug");
         verify(userMapper).findByEmail("other@example.com");
         verify(articleMapper, never()).deleteBySlug(anyString());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("태그별 아티클 수 조회 테스트")
+    void getArticlesCountByTag_Success() {
+        // given
+        when(articleMapper.countArticlesByTag("java")).thenReturn(4);
+
+        // when
+        int count = articleService.getArticlesCountByTag("java");
+
+        // then
+        assertThat(count).isEqualTo(4);
+        verify(articleMapper).countArticlesByTag("java");
+    }
+
+    @Test
+    @DisplayName("작성자별 아티클 수 조회 테스트")
+    void getArticlesCountByAuthor_Success() {
+        // given
+        when(articleMapper.countArticlesByAuthor("testuser")).thenReturn(42);
+
+        // when
+        int count = articleService.getArticlesCountByAuthor("testuser");
+
+        // then
+        assertThat(count).isEqualTo(42);
+        verify(articleMapper).countArticlesByAuthor("testuser");
+        verify(articleMapper, never()).findArticlesByAuthor(anyString(), anyInt(), anyInt());
     }
 
     @Test
@@ -296,4 +639,133 @@ class ArticleServiceTest {
         assertThat(count).isEqualTo(5);
         verify(articleMapper).countAllArticles();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("즐겨찾기 추가 시 favorites_count 증가 테스트")
+    void favoriteArticle_IncrementsCount() {
+        // given
+        when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(articleFavoriteMapper.insertFavorite(any(ArticleFavorite.class))).thenReturn(1);
+
+        // when
+        articleService.favoriteArticle("test-article-slug", "test@example.com");
+
+        // then
+        verify(articleFavoriteMapper).insertFavorite(any(ArticleFavorite.class));
+        verify(favoritesCountBuffer).add(testArticle, 1);
+        verify(eventPublisher).publishEvent(any(ArticleFavoriteChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("이미 즐겨찾기한 아티클은 favorites_count 유지 테스트")
+    void favoriteArticle_AlreadyFavorited() {
+        // given
+        when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(articleFavoriteMapper.insertFavorite(any(ArticleFavorite.class))).thenReturn(0);
+
+        // when
+        articleService.favoriteArticle("test-article-slug", "test@example.com");
+
+        // then
+        verify(articleFavoriteMapper, never()).isFavorited(any(), any());
+        verify(favoritesCountBuffer, never()).add(any(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any(ArticleFavoriteChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 사용자-아티클 쌍으로 동시에 즐겨찾기해도 카운터는 한 번만 증가 테스트 (H2 MariaDB 호환 모드 유니크 인덱스 + INSERT IGNORE)")
+    void favoriteArticle_ConcurrentSamePair() throws InterruptedException {
+        try (H2MariaDbModeDatabase db = H2MariaDbModeDatabase.start("mapper/ArticleFavoriteMapper.xml")) {
+            // given - 매퍼 XML의 INSERT IGNORE를 db/006 유니크 인덱스가 적용된 H2(MariaDB 호환 모드)에서 실행
+            db.execute("CREATE TABLE article_favorites (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                            + "article_id BIGINT NOT NULL, user_id BIGINT NOT NULL, created_at TIMESTAMP)")
+                    .applyUniqueIndexes("db/006_favorite_follow_unique.sql", "article_favorites");
+            ArticleFavoriteMapper dbMapper = db.mapper(ArticleFavoriteMapper.class);
+            when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
+            when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+            when(articleFavoriteMapper.insertFavorite(any(ArticleFavorite.class)))
+                    .thenAnswer(invocation -> dbMapper.insertFavorite(invocation.getArgument(0)));
+
+            // when
+            runConcurrently(32, () -> articleService.favoriteArticle("test-article-slug", "test@example.com"));
+
+            // then
+            assertThat(db.count("article_favorites")).isEqualTo(1);
+            verify(articleFavoriteMapper, times(32)).insertFavorite(any(ArticleFavorite.class));
+            verify(articleFavoriteMapper, never()).isFavorited(any(), any());
+            verify(favoritesCountBuffer, times(1)).add(testArticle, 1);
+            verify(eventPublisher, times(1)).publishEvent(any(ArticleFavoriteChangedEvent.class));
+        }
+    }
+
+    @Test
+    @DisplayName("조회 시 저장된 즐겨찾기 수에 미반영 증감분을 더함 테스트")
+    void getArticle_IncludesPendingFavorites() {
+        // given
+        testArticle.setFavoritesCount(10);
+        when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
+        when(favoritesCountBuffer.currentCount(1L, 10)).thenReturn(13);
+
+        // when
+        ArticleResponse result = articleService.getArticle("test-article-slug");
+
+        // then
+        assertThat(result.getFavoritesCount()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 취소 시 favorites_count 감소 테스트")
+    void unfavoriteArticle_DecrementsCount() {
+        // given
+        when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(articleFavoriteMapper.deleteFavorite(1L, 1L)).thenReturn(1);
+
+        // when
+        articleService.unfavoriteArticle("test-article-slug", "test@example.com");
+
+        // then
+        verify(favoritesCountBuffer).add(testArticle, -1);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기하지 않은 아티클 취소 시 favorites_count 유지 테스트")
+    void unfavoriteArticle_NotFavorited() {
+        // given
+        when(articleMapper.findBySlug("test-article-slug")).thenReturn(testArticle);
+        when(userMapper.findByEmail("test@example.com")).thenReturn(testUser);
+        when(articleFavoriteMapper.deleteFavorite(1L, 1L)).thenReturn(0);
+
+        // when
+        articleService.unfavoriteArticle("test-article-slug", "test@example.com");
+
+        // then
+        verify(favoritesCountBuffer, never()).add(any(), anyInt());
+    }
+
+    // 모든 스레드를 동시에 출발시켜 task 실행 후 완료까지 대기
+    private static void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(errors).isEmpty();
+    }
+}
@@ -1,5 +1,7 @@
 package com.realworld.conduit.service;
 
+import com.realworld.conduit.cache.ArticleCache;
+import com.realworld.conduit.config.PrimaryReads;
 import com.realworld.conduit.dto.CommentRequest;
 import com.realworld.conduit.dto.CommentResponse;
 import com.realworld.conduit.mapper.ArticleMapper;
@@ -14,8 +16,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -36,6 +40,10 @@ class CommentServiceTest {
     @Mock
     private UserMapper userMapper;
     
+    // 캐시 비활성화: 항상 mapper를 직접 조회
+    @Spy
+    private ArticleCache articleCache = new ArticleCache(new PrimaryReads(null, false), false, 0, Duration.ZERO);
+    
     @InjectMocks
     private CommentService commentService;
     
@@ -83,20 +91,22 @@ class CommentServiceTest {
             comment.setId(1L);
             return null;
         }).when(commentMapper).insertComment(any(Comment.class));
-        when(commentMapper.findById(1L)).thenReturn(testComment);
 
         // when
         CommentResponse response = commentService.createComment("test-article-slug", testRequest, "test@example.com");
 
         // then
         assertThat(response).isNotNull();
+        assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getBody()).isEqualTo("Test Comment");
+        assertThat(response.getCreatedAt()).isNotNull();
         assertThat(response.getAuthor().getUsername()).isEqualTo("testuser");
 
+        // 아티클 조회, 사용자 조회, 삽입 3개 문장만 실행 (삽입 후 재조회 없음)
         verify(articleMapper).findBySlug("test-article-slug");
         verify(userMapper).findByEmail("test@example.com");
         verify(commentMapper).insertComment(any(Comment.class));
-        verify(commentMapper).findById(anyLong());
+        verifyNoMoreInteractions(articleMapper, userMapper, commentMapper);
     }
 
     @Test
@@ -11,6 +11,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -63,4 +66,17 @@ class CustomUserDetailsServiceTest {
 
         verify(userMapper).findByEmail("nonexistent@example.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("관리자 이메일로 로드 시 ROLE_ADMIN 추가")
+    void loadUserByUsername_AdminEmail() {
+        ReflectionTestUtils.setField(customUserDetailsService, "adminEmails", Set.of("test@example.com"));
+        when(userMapper.findByEmail("test@example.com")).thenReturn(mockUser);
+
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername("test@example.com");
+
+        assertThat(userDetails.getAuthorities())
+                .extracting(authority -> authority.getAuthority())
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+}
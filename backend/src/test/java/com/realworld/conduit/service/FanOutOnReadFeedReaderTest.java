@@ -0,0 +1,105 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.ArticleMapper;
+import com.realworld.conduit.mapper.UserFollowMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.UserFollow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FanOutOnReadFeedReaderTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private UserFollowMapper userFollowMapper;
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    private FanOutOnReadFeedReader feedReader;
+
+    @BeforeEach
+    void setUp() {
+        feedReader = new FanOutOnReadFeedReader(userFollowMapper, articleMapper, 200);
+    }
+
+    @Test
+    @DisplayName("작성자별 최신 아티클을 k-way 병합해 한 페이지 조회 테스트")
+    void read_MergesPerAuthorLists() {
+        // given
+        when(userFollowMapper.findFollowingByUserId(1L))
+                .thenReturn(Arrays.asList(new UserFollow(1L, 10L), new UserFollow(1L, 20L)));
+        // (author_id, created_at DESC, id DESC) 순
+        when(articleMapper.findRecentArticleKeysByAuthors(Arrays.asList(10L, 20L), null, null, 3))
+                .thenReturn(Arrays.asList(
+                        key(6L, 10L, 6), key(3L, 10L, 3), key(1L, 10L, 1),
+                        key(5L, 20L, 5), key(4L, 20L, 4), key(2L, 20L, 2)));
+        when(articleMapper.findSummariesByIds(Arrays.asList(6L, 5L, 4L)))
+                .thenReturn(Arrays.asList(key(4L, 20L, 4), key(6L, 10L, 6), key(5L, 20L, 5)));
+
+        // when
+        List<Article> feed = feedReader.read(1L, null, 3);
+
+        // then
+        assertThat(feed).extracting(Article::getId).containsExactly(6L, 5L, 4L);
+        verify(articleMapper).findRecentArticleKeysByAuthors(anyList(), isNull(), isNull(), eq(3));
+    }
+
+    @Test
+    @DisplayName("작성자 목록을 쿼리당 상한으로 나눠 조회한 뒤 병합 테스트")
+    void read_ChunksAuthorsPerQuery() {
+        // given
+        feedReader = new FanOutOnReadFeedReader(userFollowMapper, articleMapper, 2);
+        when(userFollowMapper.findFollowingByUserId(1L)).thenReturn(Arrays.asList(
+                new UserFollow(1L, 10L), new UserFollow(1L, 20L), new UserFollow(1L, 30L)));
+        when(articleMapper.findRecentArticleKeysByAuthors(Arrays.asList(10L, 20L), null, null, 2))
+                .thenReturn(Arrays.asList(key(3L, 10L, 3), key(1L, 10L, 1), key(2L, 20L, 2)));
+        when(articleMapper.findRecentArticleKeysByAuthors(List.of(30L), null, null, 2))
+                .thenReturn(Arrays.asList(key(5L, 30L, 5), key(4L, 30L, 4)));
+        when(articleMapper.findSummariesByIds(Arrays.asList(5L, 4L)))
+                .thenReturn(Arrays.asList(key(5L, 30L, 5), key(4L, 30L, 4)));
+
+        // when
+        List<Article> feed = feedReader.read(1L, null, 2);
+
+        // then
+        assertThat(feed).extracting(Article::getId).containsExactly(5L, 4L);
+        verify(articleMapper, times(2)).findRecentArticleKeysByAuthors(anyList(), isNull(), isNull(), eq(2));
+    }
+
+    @Test
+    @DisplayName("팔로우하는 작성자가 없으면 아티클 쿼리 생략 테스트")
+    void read_NoFollowing() {
+        // given
+        when(userFollowMapper.findFollowingByUserId(1L)).thenReturn(List.of());
+
+        // when
+        List<Article> feed = feedReader.read(1L, null, 20);
+
+        // then
+        assertThat(feed).isEmpty();
+        verifyNoInteractions(articleMapper);
+    }
+
+    private Article key(Long id, Long authorId, int minutes) {
+        Article article = new Article();
+        article.setId(id);
+        article.setAuthorId(authorId);
+        article.setCreatedAt(BASE_TIME.plusMinutes(minutes));
+        return article;
+    }
+}
@@ -0,0 +1,62 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.ArticleMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FavoritesCountReconcilerTest {
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @InjectMocks
+    private FavoritesCountReconciler reconciler;
+
+    @Test
+    @DisplayName("ID 구간 단위로 favorites_count 재계산 테스트")
+    void reconcile_InBatches() {
+        // given
+        when(articleMapper.findMaxArticleId()).thenReturn(2500L);
+        when(articleMapper.reconcileFavoritesCounts(1L, 1001L)).thenReturn(3);
+        when(articleMapper.reconcileFavoritesCounts(1001L, 2001L)).thenReturn(0);
+        when(articleMapper.reconcileFavoritesCounts(2001L, 2501L)).thenReturn(2);
+
+        // when
+        int corrected = reconciler.reconcile(1000);
+
+        // then
+        assertThat(corrected).isEqualTo(5);
+        verify(articleMapper, times(3)).reconcileFavoritesCounts(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("아티클이 없으면 재계산 생략 테스트")
+    void reconcile_NoArticles() {
+        // given
+        when(articleMapper.findMaxArticleId()).thenReturn(0L);
+
+        // when
+        int corrected = reconciler.reconcile(1000);
+
+        // then
+        assertThat(corrected).isZero();
+        verify(articleMapper, never()).reconcileFavoritesCounts(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("배치 크기가 0 이하이면 예외 테스트")
+    void reconcile_InvalidBatchSize() {
+        assertThatThrownBy(() -> reconciler.reconcile(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(articleMapper);
+    }
+}
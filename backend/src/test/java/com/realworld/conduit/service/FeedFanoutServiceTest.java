@@ -0,0 +1,141 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.event.ArticleCreatedEvent;
+import com.realworld.conduit.event.UserFollowedEvent;
+import com.realworld.conduit.event.UserUnfollowedEvent;
+import com.realworld.conduit.mapper.TimelineMapper;
+import com.realworld.conduit.mapper.UserFollowMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.UserFollow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedFanoutServiceTest {
+
+    @Mock
+    private TimelineMapper timelineMapper;
+
+    @Mock
+    private UserFollowMapper userFollowMapper;
+
+    private FeedFanoutService feedFanoutService;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        feedFanoutService = new FeedFanoutService(timelineMapper, userFollowMapper, 1000, 50, 3);
+
+        article = new Article("test-article", "Test", "Description", "Body", 7L);
+        article.setId(1L);
+        article.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계값 미만이면 타임라인에 fan-out 테스트")
+    void onArticleCreated_FansOut() {
+        // given
+        when(userFollowMapper.countFollowers(7L)).thenReturn(10);
+
+        // when
+        feedFanoutService.onArticleCreated(new ArticleCreatedEvent(article));
+
+        // then
+        verify(timelineMapper).fanOutToFollowers(1L, 7L, article.getCreatedAt());
+        verify(timelineMapper, never()).insertPullAuthor(any());
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계값 이상이면 조회 시 병합 대상으로 등록 테스트")
+    void onArticleCreated_CelebrityFallsBackToMergeAtRead() {
+        // given
+        when(userFollowMapper.countFollowers(7L)).thenReturn(1000);
+
+        // when
+        feedFanoutService.onArticleCreated(new ArticleCreatedEvent(article));
+
+        // then
+        verify(timelineMapper).insertPullAuthor(7L);
+        verify(timelineMapper, never()).fanOutToFollowers(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("팔로워가 없으면 아무 작업도 하지 않음 테스트")
+    void onArticleCreated_NoFollowers() {
+        // given
+        when(userFollowMapper.countFollowers(7L)).thenReturn(0);
+
+        // when
+        feedFanoutService.onArticleCreated(new ArticleCreatedEvent(article));
+
+        // then
+        verifyNoInteractions(timelineMapper);
+    }
+
+    @Test
+    @DisplayName("팔로우/언팔로우 시 타임라인 백필 및 정리 테스트")
+    void onFollowChanges() {
+        // when
+        feedFanoutService.onUserFollowed(new UserFollowedEvent(2L, 7L));
+        feedFanoutService.onUserUnfollowed(new UserUnfollowedEvent(2L, 7L));
+
+        // then
+        verify(timelineMapper).backfillFromAuthor(2L, 7L, 50);
+        verify(timelineMapper).deleteAuthorFromTimeline(2L, 7L);
+    }
+
+    @Test
+    @DisplayName("fan-out 받은 팔로워와 백필 받은 사용자의 타임라인을 최신 N개로 정리 테스트")
+    void trimTimelines_TrimsTouchedTimelines() {
+        // given
+        when(userFollowMapper.countFollowers(7L)).thenReturn(2);
+        when(userFollowMapper.findFollowersByUserId(7L)).thenReturn(List.of(new UserFollow(2L, 7L), new UserFollow(3L, 7L)));
+        Article cutoff = new Article();
+        cutoff.setId(40L);
+        cutoff.setCreatedAt(LocalDateTime.of(2023, 12, 1, 0, 0));
+        when(timelineMapper.findTimelineCutoff(2L, 3)).thenReturn(cutoff);
+        when(timelineMapper.findTimelineCutoff(3L, 3)).thenReturn(null);
+        when(timelineMapper.findTimelineCutoff(5L, 3)).thenReturn(null);
+        when(timelineMapper.deleteTimelineUpTo(2L, cutoff.getCreatedAt(), 40L)).thenReturn(4);
+        feedFanoutService.onArticleCreated(new ArticleCreatedEvent(article));
+        feedFanoutService.onUserFollowed(new UserFollowedEvent(5L, 9L));
+
+        // when
+        int deleted = feedFanoutService.trimTimelines();
+
+        // then
+        assertThat(deleted).isEqualTo(4);
+        verify(timelineMapper).deleteTimelineUpTo(2L, cutoff.getCreatedAt(), 40L);
+        verify(timelineMapper, never()).deleteTimelineUpTo(eq(3L), any(), any());
+        verify(timelineMapper, never()).deleteTimelineUpTo(eq(5L), any(), any());
+    }
+
+    @Test
+    @DisplayName("새로 행이 추가된 타임라인이 없으면 정리하지 않음 테스트")
+    void trimTimelines_NothingPending() {
+        // given
+        when(userFollowMapper.countFollowers(7L)).thenReturn(2);
+        when(userFollowMapper.findFollowersByUserId(7L)).thenReturn(List.of());
+        feedFanoutService.onArticleCreated(new ArticleCreatedEvent(article));
+        feedFanoutService.trimTimelines();
+
+        // when
+        int deleted = feedFanoutService.trimTimelines();
+
+        // then
+        assertThat(deleted).isZero();
+        verify(userFollowMapper, times(1)).findFollowersByUserId(7L);
+        verify(timelineMapper, never()).findTimelineCutoff(any(), anyInt());
+    }
+}
@@ -0,0 +1,67 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.UserMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.model.User;
+import com.realworld.conduit.util.ArticleCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    @Mock
+    private FeedReader feedReader;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private ArticleService articleService;
+
+    @InjectMocks
+    private FeedService feedService;
+
+    @Test
+    @DisplayName("선택된 피드 전략으로 조회 후 요약 응답 변환 테스트")
+    void getFeed_DelegatesToReader() {
+        // given
+        User user = new User();
+        user.setId(1L);
+        ArticleCursor cursor = new ArticleCursor(LocalDateTime.of(2024, 1, 1, 12, 0), 10L);
+        List<Article> page = List.of(new Article());
+        when(userMapper.findByEmail("test@example.com")).thenReturn(user);
+        when(feedReader.read(1L, cursor, 20)).thenReturn(page);
+        when(articleService.toSummaryResponses(page)).thenReturn(List.of());
+
+        // when
+        feedService.getFeed("test@example.com", cursor, 20);
+
+        // then
+        verify(feedReader).read(1L, cursor, 20);
+        verify(articleService).toSummaryResponses(page);
+    }
+
+    @Test
+    @DisplayName("피드 조회 실패 - 사용자 없음")
+    void getFeed_UserNotFound() {
+        // given
+        when(userMapper.findByEmail("missing@example.com")).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> feedService.getFeed("missing@example.com", null, 20))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("사용자를 찾을 수 없습니다.");
+        verifyNoInteractions(feedReader);
+    }
+}
@@ -0,0 +1,71 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.event.ArticleTagsChangedEvent;
+import com.realworld.conduit.mapper.TagMapper;
+import com.realworld.conduit.model.TagCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularTagServiceTest {
+
+    @Mock
+    private TagMapper tagMapper;
+
+    @InjectMocks
+    private PopularTagService popularTagService;
+
+    @Test
+    @DisplayName("DB 집계로 사용 수 순위 초기화 테스트")
+    void reconcile_LoadsRanking() {
+        // given
+        when(tagMapper.countTagUsage()).thenReturn(Arrays.asList(
+                new TagCount("spring", 5), new TagCount("java", 9), new TagCount("jpa", 5)));
+
+        // when
+        popularTagService.reconcile();
+
+        // then
+        assertThat(popularTagService.getPopularTags(10)).containsExactly("java", "jpa", "spring");
+        assertThat(popularTagService.getPopularTags(1)).containsExactly("java");
+    }
+
+    @Test
+    @DisplayName("태그 추가/제거 이벤트로 순위 증분 갱신 테스트")
+    void onArticleTagsChanged_UpdatesIncrementally() {
+        // given
+        when(tagMapper.countTagUsage()).thenReturn(Arrays.asList(
+                new TagCount("java", 2), new TagCount("kotlin", 1)));
+        popularTagService.reconcile();
+
+        // when
+        popularTagService.onArticleTagsChanged(new ArticleTagsChangedEvent(1L, List.of("kotlin"), List.of()));
+        popularTagService.onArticleTagsChanged(new ArticleTagsChangedEvent(2L, List.of("kotlin", "go"), List.of("java")));
+
+        // then
+        assertThat(popularTagService.getPopularTags(10)).containsExactly("kotlin", "go", "java");
+        verify(tagMapper, times(1)).countTagUsage();
+    }
+
+    @Test
+    @DisplayName("사용 수가 0이 된 태그는 순위에서 제외 테스트")
+    void onArticleTagsChanged_RemovesUnusedTags() {
+        // when
+        popularTagService.onArticleTagsChanged(new ArticleTagsChangedEvent(1L, List.of("java"), List.of()));
+        popularTagService.onArticleTagsChanged(new ArticleTagsChangedEvent(1L, List.of(), List.of("java", "unknown")));
+
+        // then
+        assertThat(popularTagService.getPopularTags(10)).isEmpty();
+        verifyNoInteractions(tagMapper);
+    }
+}
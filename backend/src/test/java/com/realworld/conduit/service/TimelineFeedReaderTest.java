@@ -0,0 +1,69 @@
+package com.realworld.conduit.service;
+
+import com.realworld.conduit.mapper.TimelineMapper;
+import com.realworld.conduit.model.Article;
+import com.realworld.conduit.util.ArticleCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineFeedReaderTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TimelineMapper timelineMapper;
+
+    @InjectMocks
+    private TimelineFeedReader timelineFeedReader;
+
+    @Test
+    @DisplayName("병합 대상 작성자가 없으면 타임라인만 반환 테스트")
+    void read_TimelineOnly() {
+        // given
+        List<Article> timeline = Arrays.asList(article(3L, 3), article(2L, 2));
+        when(timelineMapper.findTimeline(1L, null, null, 20)).thenReturn(timeline);
+        when(timelineMapper.findPullAuthorArticles(1L, null, null, 20)).thenReturn(List.of());
+
+        // when
+        List<Article> feed = timelineFeedReader.read(1L, null, 20);
+
+        // then
+        assertThat(feed).isSameAs(timeline);
+    }
+
+    @Test
+    @DisplayName("타임라인과 병합 대상 작성자 아티클을 최신순으로 합치고 중복 제거 테스트")
+    void read_MergesPulledArticles() {
+        // given
+        ArticleCursor cursor = new ArticleCursor(BASE_TIME.plusMinutes(10), 100L);
+        when(timelineMapper.findTimeline(1L, cursor.getCreatedAt(), 100L, 3))
+                .thenReturn(Arrays.asList(article(5L, 5), article(3L, 3), article(1L, 1)));
+        when(timelineMapper.findPullAuthorArticles(1L, cursor.getCreatedAt(), 100L, 3))
+                .thenReturn(Arrays.asList(article(5L, 5), article(4L, 4), article(2L, 2)));
+
+        // when
+        List<Article> feed = timelineFeedReader.read(1L, cursor, 3);
+
+        // then
+        assertThat(feed).extracting(Article::getId).containsExactly(5L, 4L, 3L);
+    }
+
+    private Article article(Long id, int minutes) {
+        Article article = new Article();
+        article.setId(id);
+        article.setCreatedAt(BASE_TIME.plusMinutes(minutes));
+        return article;
+    }
+}
@@ -2,8 +2,15 @@ package com.realworld.conduit.service;
 
 import com.realworld.conduit.dto.UserRegistrationRequest;
 import com.realworld.conduit.dto.UserResponse;
+import com.realworld.conduit.dto.UserUpdateRequest;
+import com.realworld.conduit.event.UserFollowedEvent;
+import com.realworld.conduit.event.UserUnfollowedEvent;
+import com.realworld.conduit.event.UserUpdatedEvent;
+import com.realworld.conduit.mapper.H2MariaDbModeDatabase;
+import com.realworld.conduit.mapper.UserFollowMapper;
 import com.realworld.conduit.mapper.UserMapper;
 import com.realworld.conduit.model.User;
+import com.realworld.conduit.model.UserFollow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,8 +18,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -23,9 +38,15 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserFollowMapper userFollowMapper;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -101,6 +122,116 @@ class UserServiceTest {
         verify(userMapper, never()).insertUser(any());
     }
 
+    @Test
+    @DisplayName("사용자 정보 수정 시 재조회 없이 응답 구성 테스트")
+    void updateUser_NoReadAfterWrite() {
+        UserUpdateRequest request = UserUpdateRequest.builder()
+                .bio("new bio")
+                .image("https://example.com/me.png")
+                .build();
+        when(userMapper.findByEmail("test@example.com")).thenReturn(mockUser);
+
+        UserResponse result = userService.updateUser("test@example.com", request);
+
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getBio()).isEqualTo("new bio");
+        assertThat(result.getImage()).isEqualTo("https://example.com/me.png");
+
+        // 사용자 조회 1회, 수정 1회만 실행
+        verify(userMapper, times(1)).findByEmail("test@example.com");
+        verify(userMapper).updateUser(mockUser);
+        verifyNoMoreInteractions(userMapper);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 수정 시 작성자 정보 갱신용 이벤트 발행 테스트")
+    void updateUser_PublishesUserUpdatedEvent() {
+        UserUpdateRequest request = UserUpdateRequest.builder()
+                .username("renamed")
+                .build();
+        when(userMapper.findByEmail("test@example.com")).thenReturn(mockUser);
+        when(userMapper.existsByUsername("renamed")).thenReturn(false);
+
+        userService.updateUser("test@example.com", request);
+
+        verify(eventPublisher).publishEvent(new UserUpdatedEvent(1L, "renamed"));
+    }
+
+    @Test
+    @DisplayName("이미 팔로우 중이면 확인 조회나 오류 없이 같은 응답 (멱등) 테스트")
+    void followUser_AlreadyFollowing() {
+        User target = User.builder().id(2L).username("target").email("target@example.com").build();
+        when(userMapper.findByEmail("test@example.com")).thenReturn(mockUser);
+        when(userMapper.findByUsername("target")).thenReturn(target);
+        when(userFollowMapper.insertFollow(any(UserFollow.class))).thenReturn(0);
+        when(userFollowMapper.countFollowers(2L)).thenReturn(1);
+
+        UserResponse result = userService.followUser("test@example.com", "target");
+
+        assertThat(result.isFollowing()).isTrue();
+        assertThat(result.getFollowersCount()).isEqualTo(1);
+        verify(userFollowMapper, never()).isFollowing(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("팔로우 중이 아니면 언팔로우 이벤트 없이 같은 응답 (멱등) 테스트")
+    void unfollowUser_NotFollowing() {
+        User target = User.builder().id(2L).username("target").email("target@example.com").build();
+        when(userMapper.findByEmail("test@example.com")).thenReturn(mockUser);
+        when(userMapper.findByUsername("target")).thenReturn(target);
+        when(userFollowMapper.deleteFollow(1L, 2L)).thenReturn(0);
+
+        UserResponse result = userService.unfollowUser("test@example.com", "target");
+
+        assertThat(result.isFollowing()).isFalse();
+        verify(userFollowMapper, never()).isFollowing(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(UserUnfollowedEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 쌍으로 동시에 팔로우해도 팔로우 이벤트는 한 번만 발행 테스트 (H2 MariaDB 호환 모드 유니크 인덱스 + INSERT IGNORE)")
+    void followUser_ConcurrentSamePair() throws InterruptedException {
+        try (H2MariaDbModeDatabase db = H2MariaDbModeDatabase.start("mapper/UserFollowMapper.xml")) {
+            // 매퍼 XML의 INSERT IGNORE를 db/006 유니크 인덱스가 적용된 H2(MariaDB 호환 모드)에서 실행
+            db.execute("CREATE TABLE user_follows (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                            + "follower_id BIGINT NOT NULL, following_id BIGINT NOT NULL, created_at TIMESTAMP)")
+                    .applyUniqueIndexes("db/006_favorite_follow_unique.sql", "user_follows");
+            UserFollowMapper dbMapper = db.mapper(UserFollowMapper.class);
+            User target = User.builder().id(2L).username("target").email("target@example.com").build();
+            when(userMapper.findByEmail("test@example.com")).thenReturn(mockUser);
+            when(userMapper.findByUsername("target")).thenReturn(target);
+            when(userFollowMapper.insertFollow(any(UserFollow.class)))
+                    .thenAnswer(invocation -> dbMapper.insertFollow(invocation.getArgument(0)));
+
+            int threads = 32;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            List<Throwable> errors = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        assertThat(userService.followUser("test@example.com", "target").isFollowing()).isTrue();
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            executor.shutdown();
+
+            assertThat(errors).isEmpty();
+            assertThat(db.count("user_follows")).isEqualTo(1);
+            verify(userFollowMapper, times(threads)).insertFollow(any(UserFollow.class));
+            verify(eventPublisher, times(1)).publishEvent(any(UserFollowedEvent.class));
+        }
+    }
+
     // 로그인 기능은 Spring Security에서 CustomUserDetailsService를 통해 처리됩니다.
     // CustomUserDetailsService에 대한 별도 테스트를 작성해주세요.
 }
\ No newline at end of file
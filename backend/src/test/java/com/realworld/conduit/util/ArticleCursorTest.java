@@ -0,0 +1,42 @@
+package com.realworld.conduit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArticleCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩 시 원래 값 복원 테스트")
+    void encodeDecode_RoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 15, 9, 30, 45);
+        ArticleCursor cursor = new ArticleCursor(createdAt, 42L);
+
+        ArticleCursor decoded = ArticleCursor.decode(cursor.encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("인코딩된 커서는 URL-safe 문자만 포함하는지 테스트")
+    void encode_UrlSafe() {
+        ArticleCursor cursor = new ArticleCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_000_000), Long.MAX_VALUE);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 디코딩 실패 테스트")
+    void decode_Invalid() {
+        assertThatThrownBy(() -> ArticleCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ArticleCursor.decode("!!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
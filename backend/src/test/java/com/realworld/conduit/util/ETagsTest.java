@@ -0,0 +1,57 @@
+package com.realworld.conduit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    @DisplayName("같은 값이면 같은 강한 ETag, 값이 바뀌면 다른 ETag 테스트")
+    void strong_IsDeterministic() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        String etag = ETags.strong(1L, updatedAt, 3, List.of("java", "spring"));
+
+        assertThat(etag).startsWith("\"").endsWith("\"").hasSize(34);
+        assertThat(ETags.strong(1L, updatedAt, 3, List.of("java", "spring"))).isEqualTo(etag);
+        assertThat(ETags.strong(1L, updatedAt, 4, List.of("java", "spring"))).isNotEqualTo(etag);
+        assertThat(ETags.strong(1L, updatedAt.plusSeconds(1), 3, List.of("java", "spring"))).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("값 경계가 다르면 다른 ETag 테스트")
+    void strong_SeparatesParts() {
+        assertThat(ETags.strong("ab", "c")).isNotEqualTo(ETags.strong("a", "bc"));
+        assertThat(ETags.strong("a", null)).isNotEqualTo(ETags.strong("a"));
+    }
+
+    @Test
+    @DisplayName("목록 원소가 다음 값으로 밀려도 다른 ETag 테스트")
+    void strong_SeparatesListFromFollowingParts() {
+        // 태그 목록 뒤에 작성자 username, bio가 오는 경우
+        assertThat(ETags.strong(List.of("java", "alice"), "bio"))
+                .isNotEqualTo(ETags.strong(List.of("java"), "alice", "bio"));
+        assertThat(ETags.strong(List.of(), "alice"))
+                .isNotEqualTo(ETags.strong(List.of("alice")));
+        assertThat(ETags.strong("a\u001Fb")).isNotEqualTo(ETags.strong("a", "b"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 비교 테스트 - 목록, 약한 비교, 와일드카드")
+    void matches_IfNoneMatchForms() {
+        String etag = ETags.strong("article", 1L);
+
+        assertThat(ETags.matches(etag, etag)).isTrue();
+        assertThat(ETags.matches("\"other\", " + etag, etag)).isTrue();
+        assertThat(ETags.matches("W/" + etag, etag)).isTrue();
+        assertThat(ETags.matches("*", etag)).isTrue();
+        assertThat(ETags.matches("\"other\"", etag)).isFalse();
+        assertThat(ETags.matches(null, etag)).isFalse();
+        assertThat(ETags.matches("", etag)).isFalse();
+    }
+}
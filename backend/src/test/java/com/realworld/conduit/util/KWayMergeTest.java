@@ -0,0 +1,64 @@
+package com.realworld.conduit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KWayMergeTest {
+
+    @Test
+    @DisplayName("정렬된 목록들을 순서대로 병합하고 limit에서 중단 테스트")
+    void merge_RespectsOrderAndLimit() {
+        List<List<Integer>> lists = Arrays.asList(
+                Arrays.asList(9, 5, 1),
+                Arrays.asList(8, 7, 2),
+                List.of(),
+                Arrays.asList(6));
+
+        List<Integer> merged = KWayMerge.merge(lists, Comparator.reverseOrder(), 5);
+
+        assertThat(merged).containsExactly(9, 8, 7, 6, 5);
+    }
+
+    @Test
+    @DisplayName("같은 키는 한 번만 반환 테스트")
+    void merge_DropsDuplicates() {
+        List<List<Integer>> lists = Arrays.asList(
+                Arrays.asList(5, 3, 1),
+                Arrays.asList(5, 4, 3));
+
+        List<Integer> merged = KWayMerge.merge(lists, Comparator.reverseOrder(), 10);
+
+        assertThat(merged).containsExactly(5, 4, 3, 1);
+    }
+
+    @Test
+    @DisplayName("무작위 입력에서 전체 정렬 결과와 동일 테스트")
+    void merge_MatchesFullSort() {
+        Random random = new Random(42);
+        List<List<Integer>> lists = new ArrayList<>();
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            List<Integer> list = new ArrayList<>();
+            for (int j = 0; j < 20; j++) {
+                // 목록 내(j)·목록 간(i) 중복이 없도록 하위 자리에 포함
+                list.add((random.nextInt(1000) * 20 + j) * 100 + i);
+            }
+            list.sort(Comparator.reverseOrder());
+            lists.add(list);
+            all.addAll(list);
+        }
+        all.sort(Comparator.reverseOrder());
+
+        List<Integer> merged = KWayMerge.merge(lists, Comparator.reverseOrder(), 20);
+
+        assertThat(merged).isEqualTo(all.subList(0, 20));
+    }
+}
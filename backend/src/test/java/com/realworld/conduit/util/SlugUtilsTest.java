@@ -3,10 +3,15 @@ package com.realworld.conduit.util;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.*;
 
 class SlugUtilsTest {
 
+    // 공백, 하이픈, 대소문자, 한글, 한글 범위 밖 문자(자모, 한자), 기호를 섞어 경계 조건을 자주 만들도록 구성
+    private static final String ALPHABET = " \t\n\u000B\f\r\u00A0-_--AZaz09가힣각ㄱㅏ漢éİ!@#.&:()/";
+
     @Test
     @DisplayName("영문 제목으로 slug 생성 테스트")
     void generateSlug_EnglishTitle() {
@@ -156,4 +161,39 @@ class SlugUtilsTest {
         
         assertThat(slug).isEqualTo("javascript-자바스크립트-programming");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("무작위 제목에 대해 기존 정규식 구현과 같은 결과 테스트")
+    void generateSlug_MatchesRegexImplementation() {
+        Random random = new Random(20240601L);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder title = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                title.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String expected = regexSlug(title.toString());
+            String actual = SlugUtils.generateSlug(title.toString());
+
+            if (expected.isEmpty()) {
+                // 두 구현 모두 UUID로 대체
+                assertThat(actual).as("title=[%s]", title).hasSize(36);
+            } else {
+                assertThat(actual).as("title=[%s]", title).isEqualTo(expected);
+            }
+        }
+    }
+
+    // 단일 패스 구현 이전의 정규식 기반 변환 (UUID 대체 직전까지)
+    private static String regexSlug(String title) {
+        if (title.trim().isEmpty()) {
+            return "";
+        }
+        return title.trim()
+                .toLowerCase()
+                .replaceAll("\\s+", "-")
+                .replaceAll("[^a-z0-9\\-가-힣]", "")
+                .replaceAll("-+", "-")
+                .replaceAll("^-|-$", "");
+    }
+}